@@ -0,0 +1,28 @@
+// src/jmh/java/com/example/bootheat/bench/CodeGeneratorBenchmark.java
+package com.example.bootheat.bench;
+
+import com.example.bootheat.util.CodeGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CodeGeneratorBenchmark {
+
+    long id = 123_456L;
+    int seq = 42;
+    LocalDate date = LocalDate.now();
+
+    @Benchmark
+    public String orderCodeFromId() {
+        return CodeGenerator.orderCodeFromId(id++);
+    }
+
+    @Benchmark
+    public String orderCode() {
+        return CodeGenerator.orderCode(3L, date, seq++ & 0xFFF);
+    }
+}
@@ -0,0 +1,34 @@
+// src/jmh/java/com/example/bootheat/bench/InstantConversionBenchmark.java
+package com.example.bootheat.bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.*;
+import java.util.concurrent.TimeUnit;
+
+// QueryService/OrderService 매퍼의 LocalDateTime → Instant 변환 비교
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InstantConversionBenchmark {
+
+    LocalDateTime ldt = LocalDateTime.of(2025, 5, 20, 18, 30, 15);
+    ZoneId zone = ZoneId.systemDefault();
+
+    // 현재 매퍼 방식: 매번 ZoneId 조회 + ZonedDateTime 생성
+    @Benchmark
+    public Instant atZoneSystemDefault() {
+        return ldt.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    @Benchmark
+    public Instant atZoneCached() {
+        return ldt.atZone(zone).toInstant();
+    }
+
+    // 오프셋 규칙으로 바로 변환 (ZonedDateTime 할당 없음)
+    @Benchmark
+    public Instant toInstantWithOffset() {
+        return ldt.toInstant(zone.getRules().getOffset(ldt));
+    }
+}
@@ -0,0 +1,57 @@
+// src/jmh/java/com/example/bootheat/bench/OrderCreateBenchmark.java
+package com.example.bootheat.bench;
+
+import com.example.bootheat.BoothEatApplication;
+import com.example.bootheat.dto.CreateOrderRequest;
+import com.example.bootheat.repository.MenuItemRepository;
+import com.example.bootheat.service.OrderService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// OrderService.createOrder 전체 경로 (인메모리 H2, data.sql 의 1번 부스 / 1번 테이블)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderCreateBenchmark {
+
+    @Param({"1", "10"})
+    int lines;
+
+    ConfigurableApplicationContext ctx;
+    OrderService orderService;
+    CreateOrderRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ctx = new SpringApplicationBuilder(BoothEatApplication.class).run(
+                "--spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN");
+        orderService = ctx.getBean(OrderService.class);
+
+        var menus = ctx.getBean(MenuItemRepository.class).findByBooth_BoothIdOrderByNameAsc(1L);
+        List<CreateOrderRequest.Item> items = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            var m = menus.get(i % menus.size());
+            items.add(new CreateOrderRequest.Item(m.getMenuItemId(), m.getName(), m.getPrice(), null, 1));
+        }
+        int amount = items.stream().mapToInt(CreateOrderRequest.Item::price).sum();
+        request = new CreateOrderRequest(1L, 1, items, new CreateOrderRequest.Payment("벤치", amount));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public Object createOrder() {
+        return orderService.createOrder(request);
+    }
+}
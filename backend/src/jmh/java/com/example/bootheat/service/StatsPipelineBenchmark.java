@@ -0,0 +1,49 @@
+// src/jmh/java/com/example/bootheat/service/StatsPipelineBenchmark.java
+package com.example.bootheat.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// StatsService 의 Object[] → MenuTopItem 매핑/정렬, 피크아워 계산 (DB 제외, package-private 헬퍼 직접 호출)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StatsPipelineBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int menus;
+
+    List<Object[]> menuRows;
+    List<Object[]> hourRows;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(42);
+        menuRows = new ArrayList<>(menus);
+        for (int i = 0; i < menus; i++) {
+            long qty = rnd.nextInt(500);
+            menuRows.add(new Object[]{(long) i, "메뉴" + i, qty, qty * (1000 + rnd.nextInt(9000))});
+        }
+        hourRows = new ArrayList<>(24);
+        for (int h = 0; h < 24; h++) hourRows.add(new Object[]{h, (long) rnd.nextInt(200)});
+    }
+
+    @Benchmark
+    public Object toTopItems() {
+        return StatsService.toTopItems(menuRows);
+    }
+
+    @Benchmark
+    public Object top5() {
+        return StatsService.topItems(menuRows, 5);
+    }
+
+    @Benchmark
+    public Object peakHour() {
+        return StatsService.peakHour(hourRows);
+    }
+}
@@ -0,0 +1,254 @@
+// src/loadTest/java/com/example/bootheat/load/FestivalRushLoadTest.java
+package com.example.bootheat.load;
+
+import com.example.bootheat.BoothEatApplication;
+import com.example.bootheat.domain.Booth;
+import com.example.bootheat.domain.BoothTable;
+import com.example.bootheat.domain.MenuItem;
+import com.example.bootheat.dto.CreateOrderRequest;
+import com.example.bootheat.repository.BoothRepository;
+import com.example.bootheat.repository.BoothTableRepository;
+import com.example.bootheat.repository.MenuItemRepository;
+import com.example.bootheat.support.Category;
+import com.example.bootheat.support.LatencyHistogram;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// 축제 피크 부하 테스트: 앱을 로컬 포트로 띄우고 N부스 × M테이블 손님/매니저를 시뮬레이션
+// - 손님: 주문(POST /api/orders) → 승인될 때까지 GET /api/orders/{id} 폴링
+// - 매니저: 주문 후 approveDelayMs 뒤 POST /api/manager/orders/{id}/status/APPROVED
+// - 도착률 고정(open model) → 서버가 포화되면 지연/에러가 늘어나는 지점이 보임
+// 실행: ./gradlew loadTest -Pload.booths=5 -Pload.tables=10 -Pload.rate=50 -Pload.duration=60
+public class FestivalRushLoadTest {
+
+    record Config(int booths, int tables, double rate, int durationSec,
+                  long pollMs, long approveDelayMs, String dbUrl) {
+        static Config fromSystemProperties() {
+            return new Config(
+                    Integer.getInteger("load.booths", 3),
+                    Integer.getInteger("load.tables", 8),
+                    Double.parseDouble(System.getProperty("load.rate", "30")),      // 초당 주문 수 (전체)
+                    Integer.getInteger("load.duration", 30),
+                    Long.getLong("load.pollMs", 1000L),
+                    Long.getLong("load.approveDelayMs", 2000L),
+                    // 운영과 같은 파일 DB 모드, 단 별도 파일
+                    System.getProperty("load.dbUrl", "jdbc:h2:file:./build/loadtest/bootheat"));
+        }
+    }
+
+    static final class EndpointStats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+    }
+
+    private final Config cfg;
+    private final ObjectMapper om = new ObjectMapper();
+    private final Map<String, EndpointStats> stats = new ConcurrentSkipListMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+    private final HttpClient http = HttpClient.newBuilder()
+            .executor(Executors.newCachedThreadPool())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Phaser inFlight = new Phaser(1);
+    private final AtomicInteger ordersPlaced = new AtomicInteger();
+
+    private String baseUrl;
+    private List<Target> targets;
+
+    record Target(Long boothId, int tableNo, List<MenuItem> menus) {}
+
+    FestivalRushLoadTest(Config cfg) {
+        this.cfg = cfg;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Config cfg = Config.fromSystemProperties();
+        var ctx = new SpringApplicationBuilder(BoothEatApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + cfg.dbUrl(),
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN");
+        int code = 0;
+        try {
+            var test = new FestivalRushLoadTest(cfg);
+            test.baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) ctx).getWebServer().getPort();
+            test.targets = seed(cfg, ctx.getBean(BoothRepository.class),
+                    ctx.getBean(BoothTableRepository.class), ctx.getBean(MenuItemRepository.class));
+            test.run();
+        } catch (Exception e) {
+            e.printStackTrace();
+            code = 1;
+        } finally {
+            ctx.close();
+        }
+        System.exit(code);
+    }
+
+    static List<Target> seed(Config cfg, BoothRepository boothRepo,
+                             BoothTableRepository tableRepo, MenuItemRepository menuRepo) {
+        List<Target> targets = new ArrayList<>();
+        for (int b = 1; b <= cfg.booths(); b++) {
+            Booth booth = boothRepo.save(Booth.builder().name("부하부스" + b).location("LT-" + b).build());
+            List<MenuItem> menus = menuRepo.saveAll(List.of(
+                    MenuItem.builder().booth(booth).name("떡볶이").category(Category.FOOD).price(5000).available(true).build(),
+                    MenuItem.builder().booth(booth).name("순대").category(Category.FOOD).price(4000).available(true).build(),
+                    MenuItem.builder().booth(booth).name("콜라").category(Category.FOOD).price(2000).available(true).build()));
+            for (int t = 1; t <= cfg.tables(); t++) {
+                tableRepo.save(BoothTable.builder().booth(booth).tableNumber(t).active(true).build());
+                targets.add(new Target(booth.getBoothId(), t, menus));
+            }
+        }
+        return targets;
+    }
+
+    void run() throws Exception {
+        System.out.printf("[load] %s → %s%n", cfg, baseUrl);
+        long periodNanos = (long) (1_000_000_000L / cfg.rate());
+        var arrivals = scheduler.scheduleAtFixedRate(this::placeOrder, 0, periodNanos, TimeUnit.NANOSECONDS);
+
+        long start = System.nanoTime();
+        Thread.sleep(cfg.durationSec() * 1000L);
+        arrivals.cancel(false);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // 남은 폴링/승인 마무리 (최대 30초)
+        try {
+            inFlight.awaitAdvanceInterruptibly(inFlight.arrive(), 30, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            System.out.println("[load] drain timed out, some requests still in flight");
+        }
+        scheduler.shutdownNow();
+        report(elapsedMs);
+    }
+
+    private void placeOrder() {
+        Target t = targets.get(ThreadLocalRandom.current().nextInt(targets.size()));
+        List<CreateOrderRequest.Item> items = new ArrayList<>();
+        int amount = 0;
+        for (MenuItem m : t.menus()) {
+            int qty = ThreadLocalRandom.current().nextInt(3);
+            if (qty == 0) continue;
+            items.add(new CreateOrderRequest.Item(m.getMenuItemId(), m.getName(), m.getPrice(), null, qty));
+            amount += m.getPrice() * qty;
+        }
+        if (items.isEmpty()) {
+            MenuItem m = t.menus().get(0);
+            items.add(new CreateOrderRequest.Item(m.getMenuItemId(), m.getName(), m.getPrice(), null, 1));
+            amount = m.getPrice();
+        }
+        var req = new CreateOrderRequest(t.boothId(), t.tableNo(), items, new CreateOrderRequest.Payment("부하", amount));
+
+        send("POST /api/orders", post("/api/orders", req), body -> {
+            ordersPlaced.incrementAndGet();
+            long orderId = body.get("orderId").asLong();
+            scheduleLater(cfg.approveDelayMs(), () -> send("POST /api/manager/orders/{id}/status/APPROVED",
+                    post("/api/manager/orders/" + orderId + "/status/APPROVED", null), b -> {}));
+            scheduleLater(cfg.pollMs(), () -> poll(orderId, 0));
+        });
+    }
+
+    // 승인될 때까지 폴링 (승인 지연의 3배 정도에서 포기)
+    private void poll(long orderId, int attempt) {
+        int maxAttempts = (int) Math.max(3, 3 * cfg.approveDelayMs() / Math.max(1, cfg.pollMs()));
+        send("GET /api/orders/{id}", get("/api/orders/" + orderId), body -> {
+            boolean pending = "PENDING".equals(body.path("status").asText());
+            if (pending && attempt + 1 < maxAttempts) scheduleLater(cfg.pollMs(), () -> poll(orderId, attempt + 1));
+        });
+    }
+
+    private void scheduleLater(long delayMs, Runnable task) {
+        inFlight.register();
+        try {
+            scheduler.schedule(() -> {
+                try { task.run(); } finally { inFlight.arriveAndDeregister(); }
+            }, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            inFlight.arriveAndDeregister();
+        }
+    }
+
+    private void send(String endpoint, HttpRequest request, java.util.function.Consumer<JsonNode> onSuccess) {
+        EndpointStats s = stats.computeIfAbsent(endpoint, k -> new EndpointStats());
+        inFlight.register();
+        long start = System.nanoTime();
+        http.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((res, ex) -> {
+            try {
+                s.latency.record(System.nanoTime() - start);
+                if (ex != null || res.statusCode() >= 400) {
+                    s.errors.increment();
+                    return;
+                }
+                JsonNode body = res.body().isEmpty() ? om.nullNode() : om.readTree(res.body());
+                onSuccess.accept(body);
+            } catch (Exception e) {
+                s.errors.increment();
+            } finally {
+                inFlight.arriveAndDeregister();
+            }
+        });
+    }
+
+    private HttpRequest post(String path, Object body) {
+        try {
+            var builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+            return (body == null)
+                    ? builder.POST(HttpRequest.BodyPublishers.noBody()).build()
+                    : builder.header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(om.writeValueAsString(body))).build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    private void report(long elapsedMs) {
+        double seconds = elapsedMs / 1000.0;
+        System.out.printf("%n[load] offered %.1f orders/s, achieved %.1f orders/s over %.1fs%n",
+                cfg.rate(), ordersPlaced.get() / seconds, seconds);
+        System.out.printf("%-48s %8s %7s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "err%", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        stats.forEach((name, s) -> {
+            long n = s.latency.count();
+            long err = s.errors.sum();
+            System.out.printf("%-48s %8d %7d %6.2f%% %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    name, n, err, n == 0 ? 0 : 100.0 * err / n, n / seconds,
+                    s.latency.percentileMillis(0.50), s.latency.percentileMillis(0.95),
+                    s.latency.percentileMillis(0.99), s.latency.maxMillis());
+        });
+        serverMetrics();
+    }
+
+    // 서버 측 메서드별 지연/SQL 수 (GET /api/metrics) 상위 15개
+    private void serverMetrics() {
+        try {
+            var res = http.send(get("/api/metrics"), HttpResponse.BodyHandlers.ofString());
+            JsonNode root = om.readTree(res.body());
+            System.out.printf("%n[load] server side (sql statements: %d)%n", root.path("sqlStatements").asLong());
+            System.out.printf("%-48s %8s %9s %9s %9s %9s%n", "method", "calls", "mean ms", "p99 ms", "max ms", "sql/call");
+            int shown = 0;
+            for (JsonNode t : root.path("timers")) {
+                if (shown++ == 15) break;
+                System.out.printf("%-48s %8d %9.2f %9.2f %9.2f %9.2f%n",
+                        t.path("name").asText(), t.path("calls").asLong(), t.path("meanMs").asDouble(),
+                        t.path("p99Ms").asDouble(), t.path("maxMs").asDouble(), t.path("sqlPerCall").asDouble());
+            }
+        } catch (Exception e) {
+            System.out.println("[load] server metrics unavailable: " + e.getMessage());
+        }
+    }
+}
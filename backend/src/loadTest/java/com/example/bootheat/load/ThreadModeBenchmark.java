@@ -0,0 +1,179 @@
+// src/loadTest/java/com/example/bootheat/load/ThreadModeBenchmark.java
+package com.example.bootheat.load;
+
+import com.example.bootheat.BoothEatApplication;
+import com.example.bootheat.domain.MenuItem;
+import com.example.bootheat.dto.CreateOrderRequest;
+import com.example.bootheat.repository.BoothRepository;
+import com.example.bootheat.repository.BoothTableRepository;
+import com.example.bootheat.repository.MenuItemRepository;
+import com.example.bootheat.support.LatencyHistogram;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 플랫폼 스레드(Tomcat 풀 200) vs 가상 스레드 비교
+// - 같은 앱을 spring.threads.virtual.enabled=false/true 로 한 번씩 띄우고 (각자 새 인메모리 DB)
+// - 동시 클라이언트 N 개가 쉬지 않고 요청(closed model): POST /api/orders, GET /api/booths/{b}/tables/{t}/orders
+// - DB 는 커넥션 풀(10)로 묶여 있으므로 차이는 주로 대기 요청 수용(지연 꼬리/에러)에서 보임
+// 실행: ./gradlew threadModeBenchmark -Pbench.concurrency=500 -Pbench.duration=20
+public class ThreadModeBenchmark {
+
+    record Config(int concurrency, int durationSec, int warmupSec, int booths, int tables) {
+        static Config fromSystemProperties() {
+            return new Config(
+                    Integer.getInteger("bench.concurrency", 400),
+                    Integer.getInteger("bench.duration", 15),
+                    Integer.getInteger("bench.warmup", 5),
+                    Integer.getInteger("bench.booths", 4),
+                    Integer.getInteger("bench.tables", 10));
+        }
+    }
+
+    record Result(String mode, String scenario, long requests, long errors, double seconds, LatencyHistogram latency) {}
+
+    record Target(Long boothId, Long tableId, int tableNo, MenuItem menu) {}
+
+    private final Config cfg;
+    private final ObjectMapper om = new ObjectMapper();
+    // 클라이언트 쪽 동시성은 가상 스레드로 (클라이언트가 병목이 되지 않게)
+    private final ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient http = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    ThreadModeBenchmark(Config cfg) {
+        this.cfg = cfg;
+    }
+
+    public static void main(String[] args) throws Exception {
+        var bench = new ThreadModeBenchmark(Config.fromSystemProperties());
+        int code = 0;
+        try {
+            List<Result> results = new ArrayList<>();
+            results.addAll(bench.runMode(false));
+            results.addAll(bench.runMode(true));
+            bench.report(results);
+        } catch (Exception e) {
+            e.printStackTrace();
+            code = 1;
+        }
+        System.exit(code);
+    }
+
+    List<Result> runMode(boolean virtual) throws Exception {
+        String mode = virtual ? "virtual" : "platform";
+        var ctx = new SpringApplicationBuilder(BoothEatApplication.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--spring.datasource.url=jdbc:h2:mem:thread-bench-" + mode + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--bootheat.trace.sample-rate=0",
+                "--logging.level.root=WARN");
+        try {
+            String baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) ctx).getWebServer().getPort();
+            var tableRepo = ctx.getBean(BoothTableRepository.class);
+            var targets = FestivalRushLoadTest.seed(
+                            new FestivalRushLoadTest.Config(cfg.booths(), cfg.tables(), 0, 0, 0, 0, null),
+                            ctx.getBean(BoothRepository.class), tableRepo, ctx.getBean(MenuItemRepository.class))
+                    .stream()
+                    .map(t -> new Target(t.boothId(),
+                            tableRepo.findByBooth_BoothIdAndTableNumber(t.boothId(), t.tableNo()).orElseThrow().getTableId(),
+                            t.tableNo(), t.menus().get(0)))
+                    .toList();
+            System.out.printf("[bench] %s threads, %d clients → %s%n", mode, cfg.concurrency(), baseUrl);
+
+            List<Result> out = new ArrayList<>();
+            out.add(run(mode, "POST /api/orders", () -> createOrder(baseUrl, pick(targets))));
+            // 주문이 쌓인 테이블 조회 (첫 페이지 20건)
+            out.add(run(mode, "GET table orders", () -> {
+                Target t = pick(targets);
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/api/booths/" + t.boothId()
+                                + "/tables/" + t.tableId() + "/orders?limit=20"))
+                        .timeout(Duration.ofSeconds(30)).GET().build();
+            }));
+            return out;
+        } finally {
+            ctx.close();
+        }
+    }
+
+    private Result run(String mode, String scenario, Supplier<HttpRequest> requests) throws Exception {
+        measure(requests, cfg.warmupSec());
+        var latency = new LatencyHistogram();
+        var errors = new LongAdder();
+        long start = System.nanoTime();
+        measure(requests, cfg.durationSec(), latency, errors);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return new Result(mode, scenario, latency.count(), errors.sum(), seconds, latency);
+    }
+
+    private void measure(Supplier<HttpRequest> requests, int seconds) throws Exception {
+        measure(requests, seconds, new LatencyHistogram(), new LongAdder());
+    }
+
+    private void measure(Supplier<HttpRequest> requests, int seconds,
+                         LatencyHistogram latency, LongAdder errors) throws Exception {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < cfg.concurrency(); i++) {
+            workers.add(clients.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    long t0 = System.nanoTime();
+                    try {
+                        var res = http.send(requests.get(), HttpResponse.BodyHandlers.discarding());
+                        if (res.statusCode() >= 400) errors.increment();
+                    } catch (Exception e) {
+                        errors.increment();
+                    }
+                    latency.record(System.nanoTime() - t0);
+                }
+                return null;
+            }));
+        }
+        for (var w : workers) w.get();
+    }
+
+    private HttpRequest createOrder(String baseUrl, Target t) {
+        MenuItem m = t.menu();
+        var req = new CreateOrderRequest(t.boothId(), t.tableNo(),
+                List.of(new CreateOrderRequest.Item(m.getMenuItemId(), m.getName(), m.getPrice(), null, 1)),
+                new CreateOrderRequest.Payment("벤치", m.getPrice()));
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders"))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(om.writeValueAsString(req)))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Target pick(List<Target> targets) {
+        return targets.get(ThreadLocalRandom.current().nextInt(targets.size()));
+    }
+
+    private void report(List<Result> results) {
+        System.out.printf("%n[bench] %d concurrent clients, %ds per scenario%n", cfg.concurrency(), cfg.durationSec());
+        System.out.printf("%-9s %-18s %9s %7s %9s %9s %9s %9s %9s%n",
+                "threads", "scenario", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        results.stream()
+                .sorted(Comparator.comparing(Result::scenario).thenComparing(Result::mode))
+                .forEach(r -> System.out.printf("%-9s %-18s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                        r.mode(), r.scenario(), r.requests(), r.errors(), r.requests() / r.seconds(),
+                        r.latency().percentileMillis(0.50), r.latency().percentileMillis(0.95),
+                        r.latency().percentileMillis(0.99), r.latency().maxMillis()));
+    }
+}
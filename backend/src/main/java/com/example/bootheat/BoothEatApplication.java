@@ -2,8 +2,10 @@ package com.example.bootheat;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class BoothEatApplication {
 
 	public static void main(String[] args) {
@@ -1,23 +1,78 @@
 package com.example.bootheat;
 
-import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.annotation.Around;
-import org.aspectj.lang.annotation.Aspect;
-import org.springframework.stereotype.Component;
+import com.example.bootheat.support.MetricsRegistry;
+import com.example.bootheat.support.SqlCallCounter;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 
-@Aspect
-@Component
+import java.util.concurrent.ThreadLocalRandom;
+
+// 실행 시간/호출 수/SQL 수를 MetricsRegistry 에 기록 (콘솔 출력 X, 조회는 GET /api/metrics)
+// - bootheat.trace.pointcut    : 측정 대상 AspectJ 표현식 (기본: 컨트롤러 + 서비스)
+// - bootheat.trace.sample-rate : 지연시간/SQL 측정 비율 0~1 (호출/에러 수는 항상 집계)
+@Configuration
 public class TimeTraceAop {
 
-    @Around("execution(* com.example.bootheat..*(..))") // 전체 패키지 적용
-    public Object execute(ProceedingJoinPoint joinPoint) throws Throwable {
-        long start = System.currentTimeMillis();
+    // 계측 코드 자신은 제외 (무한 재귀 방지)
+    private static final String EXCLUDE =
+            " && !within(com.example.bootheat.support..*) && !within(com.example.bootheat.TimeTraceAop)";
+
+    @Bean
+    public Advisor timeTraceAdvisor(
+            ObjectProvider<MetricsRegistry> registry,
+            @Value("${bootheat.trace.pointcut:within(com.example.bootheat.web..*) || within(com.example.bootheat.service..*)}")
+            String pointcut,
+            @Value("${bootheat.trace.sample-rate:1.0}") double sampleRate) {
+        AspectJExpressionPointcutAdvisor advisor = new AspectJExpressionPointcutAdvisor();
+        advisor.setExpression("(" + pointcut + ")" + EXCLUDE);
+        advisor.setAdvice(new TraceInterceptor(registry, sampleRate));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);   // 트랜잭션 커밋 시간까지 포함
+        return advisor;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlCallCounterCustomizer(SqlCallCounter counter) {
+        return props -> props.put(AvailableSettings.STATEMENT_INSPECTOR, counter);
+    }
+
+    static final class TraceInterceptor implements MethodInterceptor {
+        private final ObjectProvider<MetricsRegistry> registryProvider;
+        private final double sampleRate;
+        private volatile MetricsRegistry registry;      // 어드바이저가 먼저 만들어지므로 지연 조회
+
+        TraceInterceptor(ObjectProvider<MetricsRegistry> registryProvider, double sampleRate) {
+            this.registryProvider = registryProvider;
+            this.sampleRate = sampleRate;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            MetricsRegistry r = registry;
+            if (r == null) registry = r = registryProvider.getObject();
+            MetricsRegistry.Timer timer = r.timer(invocation.getMethod());
 
-        try {
-            return joinPoint.proceed(); // 실제 메서드 실행
-        } finally {
-            long end = System.currentTimeMillis();
-            System.out.println("[AOP] " + joinPoint.getSignature() + " 실행 시간: " + (end - start));
+            boolean sampled = sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+            long sqlBefore = sampled ? r.sqlCounter().currentThread() : 0;
+            long start = sampled ? System.nanoTime() : 0;
+            boolean error = false;
+            try {
+                return invocation.proceed();
+            } catch (Throwable t) {
+                error = true;
+                throw t;
+            } finally {
+                timer.count(error);
+                if (sampled) timer.record(System.nanoTime() - start, r.sqlCounter().currentThread() - sqlBefore);
+            }
         }
     }
-}
\ No newline at end of file
+}
@@ -19,6 +19,7 @@ public class CorsConfig {
         config.setAllowedOrigins(List.of("https://booth-eat-2.vercel.app", "http://localhost:3000","https://bootheat.vercel.app","https://modney.shop"));
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS","PATCH"));
         config.setAllowedHeaders(List.of("*"));
+        config.setExposedHeaders(List.of("X-Next-Cursor"));   // 주문 목록 다음 페이지 커서
         config.setAllowCredentials(true);
         config.setMaxAge(3600L);
 
@@ -0,0 +1,36 @@
+package com.example.bootheat.config;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.xml.XmlConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+
+// Hibernate 2차 캐시용 JCache(Ehcache) 매니저
+// - URI 로 맡기면 JCache 가 JVM 전체에서 같은 매니저를 공유 → 컨텍스트(테스트마다 다른 DB)끼리 캐시가 섞임
+//   그래서 컨텍스트마다 고유 URI 로 만들어 Hibernate 에 인스턴스를 직접 넘김
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${bootheat.cache.config:classpath:ehcache.xml}") Resource config)
+            throws IOException {
+        var provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        var xml = new XmlConfiguration(config.getURL(), getClass().getClassLoader());
+        return provider.getCacheManager(URI.create("urn:bootheat:l2:" + UUID.randomUUID()), xml);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return props -> props.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
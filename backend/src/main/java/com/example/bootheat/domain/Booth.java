@@ -1,11 +1,15 @@
 package com.example.bootheat.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Entity @Table(name="booth")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "booth")   // 2차 캐시 (정책은 ehcache.xml)
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Booth {
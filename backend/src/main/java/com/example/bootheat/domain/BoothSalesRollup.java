@@ -0,0 +1,33 @@
+package com.example.bootheat.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 부스 × 영업일 × 시간대 주문 집계 (StatsService 조회용, SalesRollupService가 갱신)
+@Entity
+@Table(name = "booth_sales_rollup",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"booth_id", "business_date", "hour_of_day"}),
+        indexes = @Index(name = "idx_booth_rollup_date", columnList = "business_date"))   // 전체 부스 합계
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class BoothSalesRollup {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long rollupId;
+
+    @Column(name = "booth_id", nullable = false)
+    private Long boothId;
+
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    @Column(name = "hour_of_day", nullable = false)
+    private Integer hourOfDay;          // 0~23
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(nullable = false)
+    private Long amount;                // sum(customer_order.total_amount)
+}
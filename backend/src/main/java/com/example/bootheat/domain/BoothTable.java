@@ -1,12 +1,16 @@
 package com.example.bootheat.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name="booth_table",
         uniqueConstraints = @UniqueConstraint(columnNames = {"booth_id","table_number"}))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "booth_table")   // (boothId, tableNo) 조회는 쿼리 캐시와 함께
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class BoothTable {
@@ -14,7 +18,7 @@ public class BoothTable {
     @Column(name="table_id")
     private Long tableId;
 
-    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name="booth_id", nullable=false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false) @JoinColumn(name="booth_id", nullable=false)
     private Booth booth;
 
     @Column(name="table_number", nullable=false)
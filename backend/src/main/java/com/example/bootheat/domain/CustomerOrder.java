@@ -3,35 +3,54 @@ package com.example.bootheat.domain;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+// 인덱스는 레포지토리 조회 경로별 (IndexPlanTest 가 EXPLAIN 으로 테이블 풀스캔 여부 검사)
 @Table(name = "customer_order", indexes = {
-        @Index(name = "idx_order_status_approved", columnList = "status, approved_at")
+        @Index(name = "idx_order_status_approved", columnList = "status, approved_at"),
+        @Index(name = "idx_order_status_created", columnList = "status, created_at"),        // 주방 큐 재구성
+        @Index(name = "idx_order_booth_day", columnList = "booth_id, business_date, hour_bucket, total_amount"), // 부스 영업일 집계 (인덱스만 읽음)
+        @Index(name = "idx_order_booth_table_created", columnList = "booth_id, table_id, created_at, order_id"), // 테이블 주문 키셋 페이지
+        @Index(name = "idx_order_table_created", columnList = "table_id, created_at"),       // 테이블 최근 주문
+        @Index(name = "idx_order_visit_created", columnList = "visit_id, created_at"),       // 방문별 주문
+        @Index(name = "idx_order_day_booth", columnList = "business_date, booth_id, created_at, total_amount") // 전체 부스 영업일 목록/합계
 })
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class CustomerOrder {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_order_seq")
+    @SequenceGenerator(name = "customer_order_seq", sequenceName = "customer_order_seq", allocationSize = 50)
     @Column(name="order_id")
     private Long orderId;
 
-    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name="booth_id", nullable=false)
+    // optional=false: 파생 쿼리(findByBooth_BoothId...)가 left join 없이 FK 컬럼을 바로 비교 → 인덱스 사용
+    @ManyToOne(fetch = FetchType.LAZY, optional = false) @JoinColumn(name="booth_id", nullable=false)
     private Booth booth;
 
-    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name="table_id", nullable=false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false) @JoinColumn(name="table_id", nullable=false)
     private BoothTable table;
 
     // NEW: table_visit FK
-    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name="visit_id", nullable=false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false) @JoinColumn(name="visit_id", nullable=false)
     private TableVisit visit;
 
     @Column(nullable=false) private String status; // PENDING/APPROVED/REJECTED
     @Column(name="order_code", unique=true, nullable = true) private String orderCode;
+    // 클라이언트 Idempotency-Key (재전송 중복 주문 방지, 없으면 null)
+    @Column(name="idempotency_key", unique=true, length = 100) private String idempotencyKey;
     @Column(nullable=false) private Integer totalAmount;
 
     @Column(nullable=false) @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // 통계용 비정규화: insert 시 BusinessClock 으로 createdAt 에서 계산 (영업일 cutoff/시간대 반영)
+    @Column(name="business_date", nullable=false)
+    private LocalDate businessDate;
+
+    @Column(name="hour_bucket", nullable=false)
+    private Integer hourBucket;
+
     @Column(name="approved_at")
     private LocalDateTime approvedAt;
 }
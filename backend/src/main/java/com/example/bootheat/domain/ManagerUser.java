@@ -3,6 +3,8 @@ package com.example.bootheat.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
@@ -14,6 +16,8 @@ import java.time.LocalDateTime;
                 @UniqueConstraint(columnNames = {"username"})
         }
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "manager_user")   // 결제 화면 계좌 조회
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class ManagerUser {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -2,10 +2,17 @@ package com.example.bootheat.domain;
 
 import com.example.bootheat.support.Category;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 import java.time.LocalDateTime;
 
-@Entity @Table(name="menu_item")
+@Entity @Table(name="menu_item", indexes = {
+        @Index(name = "idx_menu_booth_name", columnList = "booth_id, name"),
+        @Index(name = "idx_menu_booth_available_name", columnList = "booth_id, available, name")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu_item")
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class MenuItem {
@@ -13,7 +20,7 @@ public class MenuItem {
     @Column(name="menu_item_id")
     private Long menuItemId;
 
-    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name="booth_id", nullable=false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false) @JoinColumn(name="booth_id", nullable=false)
     private Booth booth;
     private String name;
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,40 @@
+package com.example.bootheat.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 부스 × 영업일 × 시간대 × 메뉴 판매 집계 (StatsService 조회용, SalesRollupService가 갱신)
+@Entity
+@Table(name = "menu_sales_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                columnNames = {"booth_id", "business_date", "hour_of_day", "menu_item_id"}),
+        indexes = @Index(name = "idx_menu_rollup_booth_menu", columnList = "booth_id, menu_item_id"))   // 메뉴 누적 판매량
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class MenuSalesRollup {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long rollupId;
+
+    @Column(name = "booth_id", nullable = false)
+    private Long boothId;
+
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    @Column(name = "hour_of_day", nullable = false)
+    private Integer hourOfDay;          // 0~23
+
+    @Column(name = "menu_item_id", nullable = false)
+    private Long menuItemId;
+
+    @Column(nullable = false)
+    private Long qty;                   // sum(quantity)
+
+    @Column(nullable = false)
+    private Long amount;                // sum(quantity * unit_price)
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;            // 이 메뉴가 포함된 주문 수
+}
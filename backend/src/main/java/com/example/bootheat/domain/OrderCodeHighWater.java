@@ -0,0 +1,26 @@
+package com.example.bootheat.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 부스 × 영업일 주문번호 선할당 상한 (OrderCodeAllocator가 블록 단위로 올림, 재기동 후 번호 재사용 방지)
+@Entity
+@Table(name = "order_code_hwm",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"booth_id", "business_date"}))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class OrderCodeHighWater {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "hwm_id")
+    private Long hwmId;
+
+    @Column(name = "booth_id", nullable = false)
+    private Long boothId;
+
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    @Column(name = "high_water", nullable = false)
+    private Integer highWater;          // 지금까지 예약된 마지막 번호
+}
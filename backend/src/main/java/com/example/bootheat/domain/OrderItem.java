@@ -3,17 +3,22 @@ package com.example.bootheat.domain;
 import jakarta.persistence.*;
 import lombok.*;
 
-@Entity @Table(name="order_item")
+@Entity @Table(name="order_item", indexes = {
+        @Index(name = "idx_order_item_order", columnList = "order_id"),
+        @Index(name = "idx_order_item_menu_order", columnList = "menu_item_id, order_id")   // 메뉴별 판매량
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class OrderItem {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 면 insert 마다 키를 바로 받아야 해서 JDBC 배치가 꺼짐 → pooled 시퀀스 (50개씩 선할당)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq")
+    @SequenceGenerator(name = "order_item_seq", sequenceName = "order_item_seq", allocationSize = 50)
     @Column(name="order_item_id")
     private Long orderItemId;
 
-    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name="order_id", nullable=false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false) @JoinColumn(name="order_id", nullable=false)
     private CustomerOrder order;
 
-    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name="menu_item_id", nullable=false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false) @JoinColumn(name="menu_item_id", nullable=false)
     private MenuItem menuItem;
 
     @Column(nullable=false) private Integer quantity;
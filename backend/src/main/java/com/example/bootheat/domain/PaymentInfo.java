@@ -8,11 +8,12 @@ import java.time.LocalDateTime;
 @Table(name = "payment_info", uniqueConstraints = @UniqueConstraint(columnNames = {"order_id"}))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class PaymentInfo {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_info_seq")
+    @SequenceGenerator(name = "payment_info_seq", sequenceName = "payment_info_seq", allocationSize = 50)
     @Column(name="payment_info_id")
     private Long paymentInfoId;
 
-    @OneToOne(fetch = FetchType.LAZY) @JoinColumn(name="order_id", nullable=false)
+    @OneToOne(fetch = FetchType.LAZY, optional = false) @JoinColumn(name="order_id", nullable=false)
     private CustomerOrder order;
 
     @Column(nullable=false) private String payerName;
@@ -6,7 +6,14 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "table_visit")
+@Table(name = "table_visit",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"table_id", "visit_no"}),
+        indexes = {
+                @Index(name = "idx_visit_table_status_started", columnList = "table_id, status, started_at"),
+                @Index(name = "idx_visit_table_started", columnList = "table_id, started_at"),
+                @Index(name = "idx_visit_started", columnList = "started_at"),  // 일자별 방문 시간
+                @Index(name = "idx_visit_status", columnList = "status")   // OPEN visit 적재 (OpenVisitRegistry)
+        })
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class TableVisit {
@@ -15,7 +22,7 @@ public class TableVisit {
     @Column(name="visit_id")
     private Long visitId;
 
-    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name="table_id", nullable=false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false) @JoinColumn(name="table_id", nullable=false)
     private BoothTable table;
 
     @Column(name="visit_no", nullable=false)
@@ -0,0 +1,20 @@
+// dto/BoothLoadResponse.java
+package com.example.bootheat.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 부스 현재 부하 (최근 5/15/60분 슬라이딩 창)
+public record BoothLoadResponse(
+        Long boothId,
+        LocalDateTime asOf,
+        List<Window> windows
+) {
+    public record Window(
+            int minutes,
+            long orders,
+            long sales,
+            double ordersPerMinute,
+            double salesPerMinute
+    ) {}
+}
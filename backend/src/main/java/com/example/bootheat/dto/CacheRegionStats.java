@@ -0,0 +1,12 @@
+// dto/CacheRegionStats.java
+package com.example.bootheat.dto;
+
+// Hibernate 2차 캐시 영역별 적중/미스 (JCache 통계, 기동 또는 reset 이후 누적)
+public record CacheRegionStats(
+        String region,
+        long hits,
+        long misses,
+        long puts,
+        long evictions,
+        double hitRate      // 0~1, 조회가 없으면 0
+) {}
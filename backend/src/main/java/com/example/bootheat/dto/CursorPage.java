@@ -0,0 +1,7 @@
+// dto/CursorPage.java
+package com.example.bootheat.dto;
+
+import java.util.List;
+
+// 키셋 페이지: 다음 페이지가 없으면 nextCursor = null
+public record CursorPage<T>(List<T> items, String nextCursor) {}
@@ -0,0 +1,23 @@
+// dto/KitchenTicket.java
+package com.example.bootheat.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+// 주방 큐 한 건 (GET /api/manager/booths/{boothId}/queue)
+public record KitchenTicket(
+        Long orderId,
+        String orderCode,
+        Long tableId,
+        String status,        // PENDING / APPROVED
+        Integer totalAmount,
+        Instant createdAt,
+        Instant approvedAt,
+        List<Item> items
+) {
+    public record Item(Long menuItemId, String name, Integer quantity) {}
+
+    public KitchenTicket withStatus(String status, Instant approvedAt) {
+        return new KitchenTicket(orderId, orderCode, tableId, status, totalAmount, createdAt, approvedAt, items);
+    }
+}
@@ -0,0 +1,9 @@
+// dto/MenuImageResponse.java
+package com.example.bootheat.dto;
+
+import java.util.Map;
+
+public record MenuImageResponse(
+        String previewImage,              // 메뉴에 저장된 기본 크기 URL
+        Map<Integer, String> thumbnails   // 폭(px) → URL (srcset 용)
+) {}
@@ -0,0 +1,26 @@
+// dto/MetricsSnapshot.java
+package com.example.bootheat.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record MetricsSnapshot(
+        Instant since,            // 집계 시작(기동 또는 reset) 시각
+        long sqlStatements,       // 전체 SQL 수
+        List<TimerStat> timers
+) {
+    public record TimerStat(
+            String name,          // 클래스.메서드
+            String kind,          // endpoint / service
+            long calls,
+            long errors,
+            long sampled,         // 지연시간/SQL 측정된 호출 수
+            double callsPerSec,
+            double meanMs,
+            double p50Ms,
+            double p95Ms,
+            double p99Ms,
+            double maxMs,
+            double sqlPerCall
+    ) {}
+}
@@ -0,0 +1,8 @@
+// dto/ModelAssetResponse.java
+package com.example.bootheat.dto;
+
+public record ModelAssetResponse(
+        String modelUrl,     // 메뉴에 저장된 URL (/api/models/{hash}.glb)
+        long size,
+        Long gzipSize        // gzip 본을 만들지 않았으면 null
+) {}
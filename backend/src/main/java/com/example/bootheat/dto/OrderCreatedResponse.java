@@ -5,6 +5,7 @@ import java.time.Instant;
 
 public record OrderCreatedResponse(
         Long orderId,
+        String orderCode,  // 부스/영업일 일련번호 (픽업 안내용)
         String status,   // "PENDDING" (프론트 요구 스펙)
         Integer amount,
         Instant createdAt
@@ -0,0 +1,33 @@
+// dto/OrderEventPayload.java
+package com.example.bootheat.dto;
+
+import com.example.bootheat.support.OrderChangedEvent;
+
+import java.time.Instant;
+import java.time.ZoneId;
+
+// SSE 주문 이벤트 본문 (order-created / status-changed)
+public record OrderEventPayload(
+        Long orderId,
+        Long tableId,
+        Long visitId,
+        String orderCode,
+        String status,
+        Integer totalAmount,
+        Instant createdAt,
+        Instant approvedAt
+) {
+    public static OrderEventPayload from(OrderChangedEvent e) {
+        var zone = ZoneId.systemDefault();
+        return new OrderEventPayload(
+                e.orderId(),
+                e.tableId(),
+                e.visitId(),
+                e.orderCode(),
+                e.status(),
+                e.totalAmount(),
+                e.createdAt() == null ? null : e.createdAt().atZone(zone).toInstant(),
+                e.approvedAt() == null ? null : e.approvedAt().atZone(zone).toInstant()
+        );
+    }
+}
@@ -0,0 +1,11 @@
+// dto/OrderStatusResponse.java
+package com.example.bootheat.dto;
+
+import java.time.Instant;
+
+// 주문 상태 대기(long-poll) 응답
+public record OrderStatusResponse(
+        Long orderId,
+        String status,      // PENDING / APPROVED / REJECTED / FINISHED
+        Instant approvedAt
+) {}
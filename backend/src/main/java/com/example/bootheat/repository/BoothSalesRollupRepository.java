@@ -0,0 +1,87 @@
+package com.example.bootheat.repository;
+
+import com.example.bootheat.domain.BoothSalesRollup;
+import com.example.bootheat.dto.StatsTotals;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface BoothSalesRollupRepository extends JpaRepository<BoothSalesRollup, Long> {
+
+    // 증분 반영: 행이 없으면 insert, 있으면 누적 (음수 delta = 거절 취소분)
+    // native 쓰기는 대상 테이블을 알려야 2차 캐시 전체가 비워지지 않음
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booth_sales_rollup"))
+    @Query(value = """
+           merge into booth_sales_rollup t
+           using (values (cast(:boothId as bigint), cast(:date as date), cast(:hour as int),
+                          cast(:orders as bigint), cast(:amount as bigint)))
+                 as s(booth_id, business_date, hour_of_day, order_count, amount)
+              on t.booth_id = s.booth_id
+             and t.business_date = s.business_date
+             and t.hour_of_day = s.hour_of_day
+           when matched then update
+                set order_count = t.order_count + s.order_count,
+                    amount      = t.amount + s.amount
+           when not matched then insert (booth_id, business_date, hour_of_day, order_count, amount)
+                values (s.booth_id, s.business_date, s.hour_of_day, s.order_count, s.amount)
+           """, nativeQuery = true)
+    int addDelta(@Param("boothId") Long boothId,
+                 @Param("date") LocalDate date,
+                 @Param("hour") int hour,
+                 @Param("orders") long orders,
+                 @Param("amount") long amount);
+
+    // 원본 주문에서 전체 재집계 (기동 시 1회, 거절 주문 제외)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booth_sales_rollup"))
+    @Query(value = """
+           insert into booth_sales_rollup (booth_id, business_date, hour_of_day, order_count, amount)
+           select o.booth_id, o.business_date, o.hour_bucket,
+                  count(*), coalesce(sum(o.total_amount), 0)
+             from customer_order o
+            where o.status <> 'REJECTED'
+            group by o.booth_id, o.business_date, o.hour_bucket
+           """, nativeQuery = true)
+    int rebuildFromOrders();
+
+    // 영업일 총 주문수/총매출
+    @Query("""
+           select new com.example.bootheat.dto.StatsTotals(
+               coalesce(sum(r.orderCount), 0),
+               coalesce(sum(r.amount), 0)
+           )
+             from BoothSalesRollup r
+            where r.boothId = :boothId
+              and r.businessDate = :date
+           """)
+    StatsTotals totalsOn(@Param("boothId") Long boothId, @Param("date") LocalDate date);
+
+    // 모든 부스: 영업일 총 주문수/총매출
+    @Query("""
+           select new com.example.bootheat.dto.StatsTotals(
+               coalesce(sum(r.orderCount), 0),
+               coalesce(sum(r.amount), 0)
+           )
+             from BoothSalesRollup r
+            where r.businessDate = :date
+           """)
+    StatsTotals totalsAllOn(@Param("date") LocalDate date);
+
+    // 시간대별 주문 수 [hour, count] (피크아워 계산용)
+    @Query("""
+           select r.hourOfDay, r.orderCount
+             from BoothSalesRollup r
+            where r.boothId = :boothId
+              and r.businessDate = :date
+            order by r.hourOfDay
+           """)
+    List<Object[]> hourlyCountsOn(@Param("boothId") Long boothId, @Param("date") LocalDate date);
+}
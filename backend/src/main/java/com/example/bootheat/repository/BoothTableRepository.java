@@ -1,13 +1,20 @@
 package com.example.bootheat.repository;
 
 import com.example.bootheat.domain.BoothTable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
 
+// 조회는 쿼리 캐시 사용 (booth_table 에 쓰기가 커밋되면 Hibernate 가 결과를 무효화)
 public interface BoothTableRepository extends JpaRepository<BoothTable, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<BoothTable> findByBooth_BoothIdAndTableNumber(Long boothId, Integer tableNo);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByBooth_BoothIdAndTableNumber(Long boothId, Integer tableNo);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<BoothTable> findByBooth_BoothIdOrderByTableNumberAsc(Long boothId);
 }
\ No newline at end of file
@@ -2,97 +2,208 @@ package com.example.bootheat.repository;
 
 import com.example.bootheat.domain.CustomerOrder;
 import com.example.bootheat.dto.StatsTotals;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CustomerOrderRepository extends JpaRepository<CustomerOrder, Long> {
 
     // 테이블 최근 주문 10건 (QueryService.getTableContext)
     List<CustomerOrder> findTop10ByTable_TableIdOrderByCreatedAtDesc(Long tableId);
 
+    // 재전송된 주문 찾기 (Idempotency-Key, 유니크)
+    Optional<CustomerOrder> findByIdempotencyKey(String idempotencyKey);
+
     // 특정 방문(visit)의 주문들
     List<CustomerOrder> findByVisit_VisitIdOrderByCreatedAtDesc(Long visitId);
 
     // 특정 부스-테이블 전체 주문
-    List<CustomerOrder> findByBooth_BoothIdAndTable_TableIdOrderByCreatedAtDesc(Long boothId, Long tableId);
+    List<CustomerOrder> findByBooth_BoothIdAndTable_TableIdOrderByCreatedAtDescOrderIdDesc(Long boothId, Long tableId);
+
+    // ── 부스-테이블 주문 키셋 페이지: (createdAt, orderId) 내림차순, idx_order_booth_table_created 범위 스캔
+    // before 조건은 createdAt <= :beforeAt 으로 범위를 먼저 자르고, 같은 시각은 orderId 로 구분
+
+    @Query("""
+           select o
+             from CustomerOrder o
+            where o.booth.boothId = :boothId
+              and o.table.tableId = :tableId
+            order by o.createdAt desc, o.orderId desc
+           """)
+    List<CustomerOrder> findPageByBoothAndTable(@Param("boothId") Long boothId,
+                                                @Param("tableId") Long tableId,
+                                                Limit limit);
+
+    @Query("""
+           select o
+             from CustomerOrder o
+            where o.booth.boothId = :boothId
+              and o.table.tableId = :tableId
+              and o.createdAt <= :beforeAt
+              and (o.createdAt < :beforeAt or o.orderId < :beforeId)
+            order by o.createdAt desc, o.orderId desc
+           """)
+    List<CustomerOrder> findPageByBoothAndTableBefore(@Param("boothId") Long boothId,
+                                                      @Param("tableId") Long tableId,
+                                                      @Param("beforeAt") LocalDateTime beforeAt,
+                                                      @Param("beforeId") Long beforeId,
+                                                      Limit limit);
+
+    // 위 페이지 + 결제정보 [CustomerOrder, PaymentInfo|null]
+    @Query("""
+           select o, p
+             from CustomerOrder o
+             left join PaymentInfo p on p.order = o
+            where o.booth.boothId = :boothId
+              and o.table.tableId = :tableId
+            order by o.createdAt desc, o.orderId desc
+           """)
+    List<Object[]> findWithPaymentPage(@Param("boothId") Long boothId,
+                                       @Param("tableId") Long tableId,
+                                       Limit limit);
+
+    @Query("""
+           select o, p
+             from CustomerOrder o
+             left join PaymentInfo p on p.order = o
+            where o.booth.boothId = :boothId
+              and o.table.tableId = :tableId
+              and o.createdAt <= :beforeAt
+              and (o.createdAt < :beforeAt or o.orderId < :beforeId)
+            order by o.createdAt desc, o.orderId desc
+           """)
+    List<Object[]> findWithPaymentPageBefore(@Param("boothId") Long boothId,
+                                             @Param("tableId") Long tableId,
+                                             @Param("beforeAt") LocalDateTime beforeAt,
+                                             @Param("beforeId") Long beforeId,
+                                             Limit limit);
+
+    // ── 영업일 집계: business_date / hour_bucket 은 insert 때 채운 일반 컬럼 (BusinessClock)
+    // 부스별은 idx_order_booth_day(booth_id, business_date, hour_bucket, total_amount) 범위 스캔만으로 끝남
 
-    // 일자 범위 내 총 주문수 / 총액 (StatsService.todayStats에서 사용)
+    // 영업일 총 주문수 / 총액
     @Query("""
            select count(o) as cnt,
                   coalesce(sum(o.totalAmount), 0) as amount
              from CustomerOrder o
             where o.booth.boothId = :boothId
-              and o.createdAt between :start and :end
+              and o.businessDate = :date
            """)
     Object[] sumToday(@Param("boothId") Long boothId,
-                      @Param("start") LocalDateTime start,
-                      @Param("end") LocalDateTime end);
+                      @Param("date") LocalDate date);
 
-    // 시간대별 주문 수 (피크아워 계산용)
+    // 영업일 시간대별 주문 수 (피크아워 계산용)
     @Query("""
-           select function('hour', o.createdAt) as hr,
+           select o.hourBucket as hr,
                   count(o) as cnt
              from CustomerOrder o
             where o.booth.boothId = :boothId
-              and o.createdAt between :start and :end
-            group by function('hour', o.createdAt)
-            order by hr
+              and o.businessDate = :date
+            group by o.hourBucket
+            order by o.hourBucket
            """)
     List<Object[]> hourlyCounts(@Param("boothId") Long boothId,
-                                @Param("start") LocalDateTime start,
-                                @Param("end") LocalDateTime end);
+                                @Param("date") LocalDate date);
 
-    // (확장) 이름만 다른 범용 버전 — 신규 StatsService에서도 사용 가능
-// repository/CustomerOrderRepository.java
-// repository/CustomerOrderRepository.java
+    // 영업일 구간 [from, to] 총 주문수 / 총액
     @Query("""
        select new com.example.bootheat.dto.StatsTotals(
-           count(o),                       
-           coalesce(sum(o.totalAmount),0)  
+           count(o),
+           coalesce(sum(o.totalAmount),0)
        )
        from CustomerOrder o
        where o.booth.boothId = :boothId
-         and o.createdAt >= :start
-         and o.createdAt <  :end
+         and o.businessDate between :from and :to
        """)
     StatsTotals sumBetween(@Param("boothId") Long boothId,
-                           @Param("start") java.time.LocalDateTime start,
-                           @Param("end")   java.time.LocalDateTime end);
-
+                           @Param("from") LocalDate from,
+                           @Param("to")   LocalDate to);
 
+    // 영업일 구간 [from, to] 시간대별 주문 수
     @Query("""
-       select function('hour', o.createdAt) as hr,
+       select o.hourBucket as hr,
               count(o) as cnt
        from CustomerOrder o
        where o.booth.boothId = :boothId
-         and o.createdAt >= :start
-         and o.createdAt <  :end
-       group by function('hour', o.createdAt)
-       order by hr
+         and o.businessDate between :from and :to
+       group by o.hourBucket
+       order by o.hourBucket
        """)
     List<Object[]> hourlyCountsBetween(@Param("boothId") Long boothId,
-                                       @Param("start") LocalDateTime start,
-                                       @Param("end")   LocalDateTime end);
-    // 모든 부스: 날짜 구간 내 주문 (boothId, createdAt 정렬)
-    List<CustomerOrder> findByCreatedAtGreaterThanEqualAndCreatedAtLessThanOrderByBooth_BoothIdAscCreatedAtAsc(
-            LocalDateTime start, LocalDateTime end
-    );
+                                       @Param("from") LocalDate from,
+                                       @Param("to")   LocalDate to);
+
+    // 모든 부스: 영업일 주문 (boothId, createdAt 정렬) — idx_order_day_booth 순서 그대로
+    // 파생 쿼리로 두면 booth 정렬 때문에 booth 테이블을 조인해 전체를 훑음 → FK 컬럼으로 정렬
+    @Query("""
+       select o
+       from CustomerOrder o
+       where o.businessDate = :date
+       order by o.booth.boothId asc, o.createdAt asc
+       """)
+    List<CustomerOrder> findByBusinessDateOrderByBooth_BoothIdAscCreatedAtAsc(@Param("date") LocalDate date);
 
 
-    // 모든 부스: 날짜 구간 [start, end) 총 주문수/총매출
+    // 모든 부스: 영업일 주문을 [orderId, boothId, totalAmount, createdAt] 로 커서 스트리밍 (내보내기용)
+    // 엔티티가 아닌 스칼라라서 영속성 컨텍스트에 쌓이지 않음 → 건수와 무관하게 메모리 일정
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+       select o.orderId, o.booth.boothId, o.totalAmount, o.createdAt
+       from CustomerOrder o
+       where o.businessDate = :date
+       order by o.booth.boothId asc, o.createdAt asc, o.orderId asc
+       """)
+    Stream<Object[]> streamOrderRowsOn(@Param("date") LocalDate date);
+
+    // 모든 부스: 영업일 구간 [from, to] 총 주문수/총매출
     @Query("""
        select new com.example.bootheat.dto.StatsTotals(
-           count(o),                       
-           coalesce(sum(o.totalAmount),0)  
+           count(o),
+           coalesce(sum(o.totalAmount),0)
        )
        from CustomerOrder o
-       where o.createdAt >= :start
-         and o.createdAt <  :end
+       where o.businessDate between :from and :to
        """)
-    StatsTotals sumAllBetween(@Param("start") java.time.LocalDateTime start,
-                              @Param("end")   java.time.LocalDateTime end);
-}
\ No newline at end of file
+    StatsTotals sumAllBetween(@Param("from") LocalDate from,
+                              @Param("to")   LocalDate to);
+
+    // 주방 큐 재구성용: 진행 중(PENDING/APPROVED) 주문 [orderId, boothId, tableId, orderCode, status, totalAmount, createdAt, approvedAt]
+    @Query("""
+       select o.orderId, o.booth.boothId, o.table.tableId, o.orderCode, o.status,
+              o.totalAmount, o.createdAt, o.approvedAt
+       from CustomerOrder o
+       where o.status in :statuses
+       order by o.createdAt, o.orderId
+    """)
+    List<Object[]> findQueueRows(@Param("statuses") Collection<String> statuses);
+
+    @Query("""
+       select o.orderId, o.booth.boothId, o.table.tableId, o.orderCode, o.status,
+              o.totalAmount, o.createdAt, o.approvedAt
+       from CustomerOrder o
+       where o.orderId = :orderId
+    """)
+    List<Object[]> findQueueRow(@Param("orderId") Long orderId);
+
+    // 주문별 현재 상태 [orderId, status] (SalesRollupService 재집계 스냅샷 판별)
+    @Query("select o.orderId, o.status from CustomerOrder o where o.orderId in :orderIds")
+    List<Object[]> findStatusRows(@Param("orderIds") Collection<Long> orderIds);
+
+    // WAL 재생 시 이미 반영된 주문 거르기 (OrderIngestService)
+    @Query("select o.orderId from CustomerOrder o where o.orderId in :orderIds")
+    List<Long> findExistingOrderIds(@Param("orderIds") Collection<Long> orderIds);
+}
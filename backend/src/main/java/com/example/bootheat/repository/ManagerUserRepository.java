@@ -2,14 +2,18 @@
 package com.example.bootheat.repository;
 
 import com.example.bootheat.domain.ManagerUser;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface ManagerUserRepository extends JpaRepository<ManagerUser, Long> {
     Optional<ManagerUser> findFirstByBooth_BoothIdOrderByCreatedAtAsc(Long boothId);
 
-    // ★ 추가
+    // ★ 추가 — 고객 결제 화면마다 호출되므로 쿼리 캐시
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ManagerUser> findByBooth_BoothId(Long boothId);
     boolean existsByBooth_BoothId(Long boothId);
     boolean existsByUsername(String username);
@@ -0,0 +1,83 @@
+package com.example.bootheat.repository;
+
+import com.example.bootheat.domain.MenuSalesRollup;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface MenuSalesRollupRepository extends JpaRepository<MenuSalesRollup, Long> {
+
+    // 증분 반영: 행이 없으면 insert, 있으면 누적 (음수 delta = 거절 취소분)
+    // native 쓰기는 대상 테이블을 알려야 2차 캐시 전체가 비워지지 않음
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "menu_sales_rollup"))
+    @Query(value = """
+           merge into menu_sales_rollup t
+           using (values (cast(:boothId as bigint), cast(:date as date), cast(:hour as int),
+                          cast(:menuItemId as bigint), cast(:qty as bigint), cast(:amount as bigint),
+                          cast(:orders as bigint)))
+                 as s(booth_id, business_date, hour_of_day, menu_item_id, qty, amount, order_count)
+              on t.booth_id = s.booth_id
+             and t.business_date = s.business_date
+             and t.hour_of_day = s.hour_of_day
+             and t.menu_item_id = s.menu_item_id
+           when matched then update
+                set qty         = t.qty + s.qty,
+                    amount      = t.amount + s.amount,
+                    order_count = t.order_count + s.order_count
+           when not matched then insert (booth_id, business_date, hour_of_day, menu_item_id, qty, amount, order_count)
+                values (s.booth_id, s.business_date, s.hour_of_day, s.menu_item_id, s.qty, s.amount, s.order_count)
+           """, nativeQuery = true)
+    int addDelta(@Param("boothId") Long boothId,
+                 @Param("date") LocalDate date,
+                 @Param("hour") int hour,
+                 @Param("menuItemId") Long menuItemId,
+                 @Param("qty") long qty,
+                 @Param("amount") long amount,
+                 @Param("orders") long orders);
+
+    // 원본 주문 라인에서 전체 재집계 (기동 시 1회, 거절 주문 제외)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "menu_sales_rollup"))
+    @Query(value = """
+           insert into menu_sales_rollup (booth_id, business_date, hour_of_day, menu_item_id, qty, amount, order_count)
+           select o.booth_id, o.business_date, o.hour_bucket, oi.menu_item_id,
+                  sum(oi.quantity), sum(oi.quantity * oi.unit_price), count(distinct o.order_id)
+             from order_item oi
+             join customer_order o on o.order_id = oi.order_id
+            where o.status <> 'REJECTED'
+            group by o.booth_id, o.business_date, o.hour_bucket, oi.menu_item_id
+           """, nativeQuery = true)
+    int rebuildFromOrders();
+
+    // 영업일 메뉴별 [menuItemId, name, qty, amount] — OrderItemRepository.aggregateMenuBetween 과 같은 모양
+    @Query("""
+           select r.menuItemId,
+                  m.name,
+                  sum(r.qty) as qty,
+                  sum(r.amount) as amount
+             from MenuSalesRollup r, MenuItem m
+            where m.menuItemId = r.menuItemId
+              and r.boothId = :boothId
+              and r.businessDate = :date
+            group by r.menuItemId, m.name
+           """)
+    List<Object[]> aggregateMenuOn(@Param("boothId") Long boothId, @Param("date") LocalDate date);
+
+    // 특정 부스의 특정 메뉴 누적 판매 수량
+    @Query("""
+           select coalesce(sum(r.qty), 0)
+             from MenuSalesRollup r
+            where r.boothId = :boothId
+              and r.menuItemId = :menuItemId
+           """)
+    long totalQtyByBoothAndMenu(@Param("boothId") Long boothId,
+                                @Param("menuItemId") Long menuItemId);
+}
@@ -7,7 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 
@@ -16,7 +16,7 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     // 주문 상세 라인 조회 (OrderService.getOrder)
     List<OrderItem> findByOrder_OrderId(Long orderId);
 
-    // 오늘/기간 집계 (StatsService.todayStats 등)
+    // 영업일 메뉴별 집계 — 주문은 idx_order_booth_day 로 (부스, 영업일) 범위만 읽고 라인은 order_id 인덱스로
     @Query("""
            select oi.menuItem.menuItemId,
                   oi.menuItem.name,
@@ -24,14 +24,13 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
                   sum(oi.quantity * oi.unitPrice) as amount
              from OrderItem oi
             where oi.order.booth.boothId = :boothId
-              and oi.order.createdAt between :start and :end
+              and oi.order.businessDate = :date
             group by oi.menuItem.menuItemId, oi.menuItem.name
            """)
     List<Object[]> aggregateMenuToday(@Param("boothId") Long boothId,
-                                      @Param("start") LocalDateTime start,
-                                      @Param("end") LocalDateTime end);
+                                      @Param("date") LocalDate date);
 
-    // (확장) 동일 쿼리를 범용 이름으로도 제공 — 기존/신규 서비스 둘 다 사용 가능
+    // (확장) 영업일 구간 [from, to] 버전
     @Query("""
            select oi.menuItem.menuItemId,
                   oi.menuItem.name,
@@ -39,12 +38,12 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
                   sum(oi.quantity * oi.unitPrice) as amount
              from OrderItem oi
             where oi.order.booth.boothId = :boothId
-              and oi.order.createdAt between :start and :end
+              and oi.order.businessDate between :from and :to
             group by oi.menuItem.menuItemId, oi.menuItem.name
            """)
     List<Object[]> aggregateMenuBetween(@Param("boothId") Long boothId,
-                                        @Param("start") LocalDateTime start,
-                                        @Param("end") LocalDateTime end);
+                                        @Param("from") LocalDate from,
+                                        @Param("to") LocalDate to);
 
     // 특정 부스의 특정 메뉴 총 판매 수량 (통계 API용)
     @Query("""
@@ -60,4 +59,24 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     // 여러 주문에 대한 라인아이템을 한 번에 로딩 (menuItem까지 로딩)
     @EntityGraph(attributePaths = {"menuItem"})
     List<OrderItem> findByOrder_OrderIdIn(Collection<Long> orderIds);
+
+    // 여러 주문의 라인을 [orderId, 메뉴명, 수량] 으로 한 번에 조회 (엔티티/프록시 로딩 없음)
+    @Query("""
+           select oi.order.orderId, mi.name, oi.quantity
+             from OrderItem oi
+             join oi.menuItem mi
+            where oi.order.orderId in :orderIds
+            order by oi.orderItemId
+           """)
+    List<Object[]> findItemRowsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    // 여러 주문의 라인을 [orderId, menuItemId, 메뉴명, unitPrice, quantity] 로 조회 (내보내기용)
+    @Query("""
+           select oi.order.orderId, mi.menuItemId, mi.name, oi.unitPrice, oi.quantity
+             from OrderItem oi
+             join oi.menuItem mi
+            where oi.order.orderId in :orderIds
+            order by oi.orderItemId
+           """)
+    List<Object[]> findBriefRowsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -22,6 +22,14 @@ public interface TableVisitRepository extends JpaRepository<TableVisit, Long> {
 
     boolean existsByTable_TableIdAndStatus(Long tableId, String status);
 
+    // 상태별 방문 [tableId, visitId, visitNo, startedAt] (OpenVisitRegistry 기동 시 적재)
+    @Query("""
+        select v.table.tableId, v.visitId, v.visitNo, v.startedAt
+        from TableVisit v
+        where v.status = :status
+    """)
+    List<Object[]> findVisitRowsByStatus(@Param("status") String status);
+
 
     @Query("""
         select v
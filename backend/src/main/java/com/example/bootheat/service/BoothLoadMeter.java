@@ -0,0 +1,90 @@
+package com.example.bootheat.service;
+
+import com.example.bootheat.dto.BoothLoadResponse;
+import com.example.bootheat.support.BusinessClock;
+import com.example.bootheat.support.OrderChangedEvent;
+import com.example.bootheat.support.RollingCounter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// service/BoothLoadMeter.java
+// 부스별 메모리 카운터 (커밋된 주문 이벤트로 갱신, DB 조회 없음)
+// - 분 단위 60칸: 최근 5/15/60분 주문수·매출과 분당 처리량 (주문 생성만, 유입 부하)
+// - 시간 단위 24칸: 오늘(영업일) 시간대별 주문수 (집계 테이블과 같은 키/기준 — 거절은 빼고 거절 취소는 다시 더함)
+//   기동 전 주문은 모르므로 기동 시각 이전 시간대는 StatsService 가 집계 테이블로 채움
+@Service
+public class BoothLoadMeter {
+
+    static final int[] WINDOWS = {5, 15, 60};
+
+    private record Meter(RollingCounter minutes, RollingCounter hours) {}
+
+    private final Map<Long, Meter> meters = new ConcurrentHashMap<>();
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final BusinessClock clock;
+
+    public BoothLoadMeter(BusinessClock clock) {
+        this.clock = clock;
+    }
+
+    @TransactionalEventListener
+    public void onOrderChanged(OrderChangedEvent e) {
+        int sign = SalesRollupService.sign(e);
+        if (sign == 0) return;
+        Meter m = meters.computeIfAbsent(e.boothId(),
+                k -> new Meter(new RollingCounter(60), new RollingCounter(24)));
+        m.hours().add(hourKey(e.businessDate(), e.hourBucket()), sign, (long) sign * e.totalAmount());
+        if (e.type() == OrderChangedEvent.Type.CREATED)
+            m.minutes().add(minuteKey(e.createdAt()), 1, e.totalAmount());
+    }
+
+    public BoothLoadResponse load(Long boothId, LocalDateTime now) {
+        Meter m = meters.get(boothId);
+        long nowKey = minuteKey(now);
+        List<BoothLoadResponse.Window> windows = Arrays.stream(WINDOWS)
+                .mapToObj(w -> {
+                    long[] sum = (m == null) ? new long[2] : m.minutes().sum(nowKey - w + 1, nowKey);
+                    return new BoothLoadResponse.Window(w, sum[0], sum[1], perMinute(sum[0], w), perMinute(sum[1], w));
+                })
+                .toList();
+        return new BoothLoadResponse(boothId, now, windows);
+    }
+
+    // 영업일 date 의 시간대별 주문수 (index = 시간 버킷). isLive 가 아닌 칸은 불완전하므로 호출 쪽이 덮어씀
+    public long[] hourlyOrders(Long boothId, LocalDate date) {
+        long[] counts = new long[24];
+        Meter m = meters.get(boothId);
+        if (m == null) return counts;
+        for (int h = 0; h < 24; h++) counts[h] = m.hours().count(hourKey(date, h));
+        return counts;
+    }
+
+    // 기동 후에 시작한 시간대면 카운터가 완전함 (영업일 안에서 시 순서가 0시를 넘어가므로 시각으로 비교)
+    public boolean isLive(LocalDate date, int hour) {
+        return !clock.hourStart(date, hour).isBefore(startedAt);
+    }
+
+    // 영업일 전체가 기동 후에 시작했으면 모든 시간대가 완전함
+    public boolean isLive(LocalDate date) {
+        return !clock.dayStart(date).isBefore(startedAt);
+    }
+
+    private static double perMinute(long value, int minutes) {
+        return Math.round(100.0 * value / minutes) / 100.0;
+    }
+
+    private static long minuteKey(LocalDateTime t) {
+        return t.toLocalDate().toEpochDay() * 1440 + t.getHour() * 60L + t.getMinute();
+    }
+
+    private static long hourKey(LocalDate businessDate, int hourBucket) {
+        return businessDate.toEpochDay() * 24 + hourBucket;
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.bootheat.service;
+
+import com.example.bootheat.dto.KitchenTicket;
+import com.example.bootheat.repository.CustomerOrderRepository;
+import com.example.bootheat.repository.OrderItemRepository;
+import com.example.bootheat.support.OrderChangedEvent;
+import com.example.bootheat.support.Status;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+// service/KitchenQueueService.java
+// 부스별 진행 중 주문(PENDING/APPROVED) 큐를 메모리에 유지 → 조회 시 SQL 없음
+// - 커밋된 OrderChangedEvent 로만 갱신 (롤백된 주문은 반영 안 됨)
+// - FINISHED/REJECTED 는 큐에서 제거, REJECTED → PENDING 복귀 시 DB 에서 다시 읽어 추가
+// - 기동 시 DB 에서 재구성. 재구성 중 도착한 이벤트는 기록해 두었다가 교체 직후 새 큐에 다시 적용
+@Service
+public class KitchenQueueService {
+
+    private static final Set<String> ACTIVE = Set.of(Status.PENDING, Status.APPROVED);
+    private static final int MAX_CLOSED = 10_000;     // 늦게 도착한 생성 이벤트 무시용 (부스당)
+
+    private final CustomerOrderRepository orderRepo;
+    private final OrderItemRepository orderItemRepo;
+
+    private volatile Map<Long, BoothQueue> queues = new ConcurrentHashMap<>();
+
+    // 재구성 중이면 그 사이 도착한 이벤트 목록, 아니면 null
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private List<OrderChangedEvent> duringRebuild;
+
+    public KitchenQueueService(CustomerOrderRepository orderRepo, OrderItemRepository orderItemRepo) {
+        this.orderRepo = orderRepo;
+        this.orderItemRepo = orderItemRepo;
+    }
+
+    private record QueueKey(LocalDateTime createdAt, Long orderId) implements Comparable<QueueKey> {
+        private static final Comparator<QueueKey> ORDER =
+                Comparator.comparing(QueueKey::createdAt).thenComparing(QueueKey::orderId);
+
+        @Override
+        public int compareTo(QueueKey o) { return ORDER.compare(this, o); }
+    }
+
+    // 조회는 락 없이 skip list 순회, 변경은 부스 단위로 직렬화
+    private static final class BoothQueue {
+        final ConcurrentSkipListMap<QueueKey, KitchenTicket> tickets = new ConcurrentSkipListMap<>();
+        final Map<Long, QueueKey> keys = new HashMap<>();
+        final Map<Long, Boolean> closed = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > MAX_CLOSED;
+            }
+        };
+
+        synchronized void put(QueueKey key, KitchenTicket ticket) {
+            closed.remove(key.orderId());
+            keys.put(key.orderId(), key);
+            tickets.put(key, ticket);
+        }
+
+        synchronized void putIfNew(QueueKey key, KitchenTicket ticket) {
+            if (closed.containsKey(key.orderId()) || keys.containsKey(key.orderId())) return;
+            keys.put(key.orderId(), key);
+            tickets.put(key, ticket);
+        }
+
+        synchronized void close(Long orderId) {
+            closed.put(orderId, Boolean.TRUE);
+            QueueKey key = keys.remove(orderId);
+            if (key != null) tickets.remove(key);
+        }
+
+        // 큐에 있으면 상태만 교체, 없으면 false
+        synchronized boolean update(Long orderId, String status, Instant approvedAt) {
+            QueueKey key = keys.get(orderId);
+            if (key == null) return false;
+            tickets.computeIfPresent(key, (k, t) -> t.withStatus(status, approvedAt));
+            return true;
+        }
+    }
+
+    // status: PENDING / APPROVED / null(전체), 생성 순
+    public List<KitchenTicket> queue(Long boothId, String status) {
+        String st = (status == null || status.isBlank()) ? null : status.trim().toUpperCase();
+        if (st != null && !ACTIVE.contains(st)) throw new IllegalArgumentException("UNSUPPORTED_STATUS");
+
+        BoothQueue q = queues.get(boothId);
+        if (q == null) return List.of();
+        List<KitchenTicket> out = new ArrayList<>();
+        for (KitchenTicket t : q.tickets.values()) {
+            if (st == null || st.equals(t.status())) out.add(t);
+        }
+        return out;
+    }
+
+    @TransactionalEventListener
+    public void onOrderChanged(OrderChangedEvent e) {
+        rebuildLock.lock();
+        try {
+            if (duringRebuild != null) duringRebuild.add(e);
+        } finally {
+            rebuildLock.unlock();
+        }
+        apply(e);
+    }
+
+    // 같은 이벤트를 두 번 적용해도 결과가 같음 (putIfNew / close / 현재 DB 값으로 reload)
+    private void apply(OrderChangedEvent e) {
+        BoothQueue q = queues.computeIfAbsent(e.boothId(), k -> new BoothQueue());
+        QueueKey key = new QueueKey(dbPrecision(e.createdAt()), e.orderId());
+
+        if (e.type() == OrderChangedEvent.Type.CREATED) {
+            q.putIfNew(key, toTicket(e));
+            return;
+        }
+        if (!ACTIVE.contains(e.status())) {
+            q.close(e.orderId());
+            return;
+        }
+        // 큐에 없던 주문(거절 후 복귀, 생성 이벤트보다 먼저 도착) → DB 에서 한 건 로딩
+        if (!q.update(e.orderId(), e.status(), toInstant(dbPrecision(e.approvedAt())))) {
+            reload(e.orderId()).forEach((k, t) -> q.put(k, t));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            duringRebuild = new ArrayList<>();
+        } finally {
+            rebuildLock.unlock();
+        }
+        try {
+            // 기록 시작 전에 도착한 이벤트는 커밋이 끝난 것 → 아래 조회에 이미 보임
+            Map<Long, BoothQueue> fresh = new ConcurrentHashMap<>();
+            List<Object[]> rows = orderRepo.findQueueRows(ACTIVE);
+            Map<Long, List<KitchenTicket.Item>> items = loadItems(rows);
+            for (Object[] r : rows) {
+                Long boothId = (Long) r[1];
+                fresh.computeIfAbsent(boothId, k -> new BoothQueue())
+                        .put(new QueueKey((LocalDateTime) r[6], (Long) r[0]), toTicket(r, items));
+            }
+            rebuildLock.lock();
+            try {
+                // 닫힌 주문 기록은 이어받아 늦게 도착한 생성 이벤트로 되살아나지 않게
+                queues.forEach((boothId, old) -> {
+                    synchronized (old) {
+                        BoothQueue q = fresh.computeIfAbsent(boothId, k -> new BoothQueue());
+                        old.closed.keySet().forEach(id -> { if (!q.keys.containsKey(id)) q.closed.put(id, Boolean.TRUE); });
+                    }
+                });
+                queues = fresh;
+                duringRebuild.forEach(this::apply);
+            } finally {
+                rebuildLock.unlock();
+            }
+        } finally {
+            rebuildLock.lock();
+            try {
+                duringRebuild = null;
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+    }
+
+    private Map<QueueKey, KitchenTicket> reload(Long orderId) {
+        List<Object[]> rows = orderRepo.findQueueRow(orderId);
+        Map<Long, List<KitchenTicket.Item>> items = loadItems(rows);
+        Map<QueueKey, KitchenTicket> out = new HashMap<>();
+        for (Object[] r : rows) {
+            if (ACTIVE.contains((String) r[4])) out.put(new QueueKey((LocalDateTime) r[6], (Long) r[0]), toTicket(r, items));
+        }
+        return out;
+    }
+
+    private Map<Long, List<KitchenTicket.Item>> loadItems(List<Object[]> orderRows) {
+        if (orderRows.isEmpty()) return Map.of();
+        List<Long> ids = orderRows.stream().map(r -> (Long) r[0]).toList();
+        Map<Long, List<KitchenTicket.Item>> out = new HashMap<>();
+        // IN 목록이 너무 길어지지 않도록 끊어서 조회
+        for (int i = 0; i < ids.size(); i += 1000) {
+            for (Object[] r : orderItemRepo.findBriefRowsByOrderIds(ids.subList(i, Math.min(ids.size(), i + 1000)))) {
+                out.computeIfAbsent((Long) r[0], k -> new ArrayList<>())
+                        .add(new KitchenTicket.Item((Long) r[1], (String) r[2], (Integer) r[4]));
+            }
+        }
+        return out;
+    }
+
+    private static KitchenTicket toTicket(OrderChangedEvent e) {
+        var items = e.lines().stream()
+                .map(l -> new KitchenTicket.Item(l.menuItemId(), l.name(), l.quantity()))
+                .collect(Collectors.toUnmodifiableList());
+        return new KitchenTicket(e.orderId(), e.orderCode(), e.tableId(), e.status(), e.totalAmount(),
+                toInstant(dbPrecision(e.createdAt())), toInstant(dbPrecision(e.approvedAt())), items);
+    }
+
+    // [orderId, boothId, tableId, orderCode, status, totalAmount, createdAt, approvedAt]
+    private static KitchenTicket toTicket(Object[] r, Map<Long, List<KitchenTicket.Item>> items) {
+        Long orderId = (Long) r[0];
+        return new KitchenTicket(orderId, (String) r[3], (Long) r[2], (String) r[4], (Integer) r[5],
+                toInstant((LocalDateTime) r[6]), toInstant((LocalDateTime) r[7]),
+                List.copyOf(items.getOrDefault(orderId, List.of())));
+    }
+
+    // 엔티티 시각은 ns, DB 저장값은 µs(반올림) → 이벤트로 만든 티켓과 재구성한 티켓이 같도록 맞춤
+    private static LocalDateTime dbPrecision(LocalDateTime t) {
+        return t == null ? null : t.plusNanos(500).truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static Instant toInstant(LocalDateTime t) {
+        return t == null ? null : t.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
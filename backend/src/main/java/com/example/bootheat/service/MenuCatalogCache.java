@@ -0,0 +1,54 @@
+package com.example.bootheat.service;
+
+import com.example.bootheat.dto.MenuItemDto;
+import com.example.bootheat.repository.MenuItemRepository;
+import com.example.bootheat.support.MenuChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// service/MenuCatalogCache.java
+// 고객용 부스 메뉴(판매중) 캐시. MenuService 변경이 커밋되면 해당 부스만 무효화
+@Service
+@RequiredArgsConstructor
+public class MenuCatalogCache {
+
+    private final MenuItemRepository menuRepo;
+
+    private final Map<Long, Catalog> catalogs = new ConcurrentHashMap<>();
+
+    public record Catalog(List<MenuItemDto> items, String etag) {}
+
+    public Catalog get(Long boothId) {
+        // 같은 부스 동시 미스는 한 번만 로딩. 로딩 중 evict 는 로딩이 끝난 뒤 제거되므로 stale 값이 남지 않음
+        return catalogs.computeIfAbsent(boothId, this::load);
+    }
+
+    public void evict(Long boothId) {
+        catalogs.remove(boothId);
+    }
+
+    @TransactionalEventListener
+    public void onMenuChanged(MenuChangedEvent e) {
+        evict(e.boothId());
+    }
+
+    private Catalog load(Long boothId) {
+        var items = menuRepo.findByBooth_BoothIdAndAvailableTrueOrderByNameAsc(boothId)
+                .stream()
+                .map(m -> new MenuItemDto(
+                        m.getMenuItemId(), boothId, m.getName(),
+                        m.getPrice(), m.getAvailable(), m.getModelUrl(), m.getPreviewImage(),
+                        m.getDescription(), m.getCategory() == null ? null : m.getCategory().name()
+                )).toList();
+        // 내용 기반 ETag: 재시작 후에도 같은 메뉴면 같은 값
+        String etag = "\"" + DigestUtils.md5DigestAsHex(items.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+        return new Catalog(items, etag);
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.bootheat.service;
+
+import com.example.bootheat.dto.MenuImageResponse;
+import com.example.bootheat.support.FileTransfer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// service/MenuImageService.java
+// 메뉴 미리보기 이미지: 원본은 디스크에 두고, 고객 화면에는 폭별 썸네일만 내려줌
+// - 파일명 = 원본 SHA-256 앞 16자 + 폭 → 내용이 바뀌면 URL 도 바뀌므로 브라우저/CDN 이 영구 캐시해도 됨
+// - 썸네일은 업로드 때 미리 만들고, 설정에 폭이 추가됐거나 파일이 지워졌으면 요청 시 원본에서 다시 만듦
+// - 큰 사진은 썸네일 최대 폭의 2배 정도로 서브샘플링해서 디코딩 (수천만 픽셀을 통째로 풀지 않음)
+@Service
+public class MenuImageService {
+
+    static final long MAX_PIXELS = 50_000_000L;
+    private static final Pattern FILE_NAME = Pattern.compile("([0-9a-f]{16})-(\\d{1,4})\\.(jpg|png)");
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private final MenuService menuService;
+    private final Path originalDir;
+    private final Path thumbDir;
+    private final Path tmpDir;
+    private final int[] widths;
+    private final int maxWidth;
+    private final int previewWidth;
+    private final long maxBytes;
+    private final String urlPrefix;
+
+    public MenuImageService(MenuService menuService,
+                            @Value("${bootheat.image.dir:${java.io.tmpdir}/bootheat-images}") String dir,
+                            @Value("${bootheat.image.widths:160,320,640}") int[] widths,
+                            @Value("${bootheat.image.preview-width:320}") int previewWidth,
+                            @Value("${bootheat.image.max-bytes:10485760}") long maxBytes,
+                            @Value("${bootheat.image.url-prefix:/api/images/menus/}") String urlPrefix) throws IOException {
+        if (Arrays.stream(widths).noneMatch(w -> w == previewWidth))
+            throw new IllegalStateException("bootheat.image.preview-width must be one of bootheat.image.widths");
+        this.menuService = menuService;
+        Path root = Path.of(dir);
+        this.originalDir = Files.createDirectories(root.resolve("original"));
+        this.thumbDir = Files.createDirectories(root.resolve("thumb"));
+        this.tmpDir = Files.createDirectories(root.resolve("tmp"));
+        this.widths = widths.clone();
+        this.maxWidth = Arrays.stream(widths).max().orElse(previewWidth);
+        this.previewWidth = previewWidth;
+        this.maxBytes = maxBytes;
+        this.urlPrefix = urlPrefix;
+    }
+
+    // 업로드 본문을 임시 파일로 받은 뒤 원본 보관 + 썸네일 생성, 메뉴의 previewImage 를 기본 폭 URL 로 교체
+    public MenuImageResponse upload(Long boothId, Long menuItemId, InputStream body) throws IOException {
+        menuService.getOne(boothId, menuItemId);      // 본문을 받기 전에 MENU_NOT_FOUND
+        Path part = Files.createTempFile(tmpDir, "upload-", ".part");
+        try {
+            String hash = FileTransfer.receive(body, part, maxBytes).substring(0, 16);
+            BufferedImage image = decode(part);
+            String ext = image.getColorModel().hasAlpha() ? "png" : "jpg";
+            Path original = originalDir.resolve(hash);
+            if (!Files.exists(original)) Files.move(part, original, StandardCopyOption.ATOMIC_MOVE);
+
+            Map<Integer, String> urls = new TreeMap<>();
+            for (int w : widths) {
+                String name = fileName(hash, w, ext);
+                Path thumb = thumbDir.resolve(name);
+                if (!Files.exists(thumb)) writeThumbnail(image, w, ext, thumb);   // 같은 이미지 재업로드면 재사용
+                urls.put(w, urlPrefix + name);
+            }
+            String preview = urls.get(previewWidth);
+            menuService.setPreviewImage(boothId, menuItemId, preview);
+            return new MenuImageResponse(preview, urls);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    // 썸네일 파일 경로 (없으면 원본에서 생성). 형식이 틀리거나 원본이 없으면 IMAGE_NOT_FOUND
+    public Path thumbnail(String fileName) throws IOException {
+        Matcher m = FILE_NAME.matcher(fileName);
+        if (!m.matches()) throw new IllegalArgumentException("IMAGE_NOT_FOUND");
+        Path thumb = thumbDir.resolve(fileName);
+        if (Files.exists(thumb)) return thumb;
+
+        int width = Integer.parseInt(m.group(2));
+        Path original = originalDir.resolve(m.group(1));
+        if (Arrays.stream(widths).noneMatch(w -> w == width) || !Files.exists(original))
+            throw new IllegalArgumentException("IMAGE_NOT_FOUND");
+        writeThumbnail(decode(original), width, m.group(3), thumb);
+        return thumb;
+    }
+
+    private static String fileName(String hash, int width, String ext) {
+        return hash + "-" + width + "." + ext;
+    }
+
+    private BufferedImage decode(Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = (in == null) ? Collections.emptyIterator() : ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) throw new IllegalArgumentException("INVALID_IMAGE");
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int w = reader.getWidth(0), h = reader.getHeight(0);
+                if ((long) w * h > MAX_PIXELS) throw new IllegalArgumentException("IMAGE_TOO_LARGE");
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = w / (maxWidth * 2);
+                if (step > 1) param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } catch (IIOException e) {
+                throw new IllegalArgumentException("INVALID_IMAGE");   // 헤더만 이미지이고 본문이 깨진 경우
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 다른 스레드가 같은 썸네일을 동시에 만들어도 내용이 같으므로 임시 파일 → rename 으로 덮어씀
+    private void writeThumbnail(BufferedImage image, int width, String ext, Path target) throws IOException {
+        BufferedImage thumb = scale(image, width, ext.equals("png"));
+        Path part = Files.createTempFile(tmpDir, "thumb-", "." + ext);
+        try {
+            if (ext.equals("png")) ImageIO.write(thumb, "png", part.toFile());
+            else writeJpeg(thumb, part);
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    // 절반씩 줄여가며 bilinear (한 번에 크게 줄이면 계단 현상). 원본보다 크게 늘리지는 않음
+    static BufferedImage scale(BufferedImage src, int width, boolean alpha) {
+        int targetW = Math.min(width, src.getWidth());
+        int targetH = Math.max(1, (int) Math.round((double) src.getHeight() * targetW / src.getWidth()));
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage cur = src;
+        int w = src.getWidth(), h = src.getHeight();
+        do {
+            w = Math.max(targetW, w / 2);
+            h = Math.max(targetH, h / 2);
+            BufferedImage next = new BufferedImage(w, h, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.drawImage(cur, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            cur = next;
+        } while (w != targetW || h != targetH);
+        return cur;
+    }
+
+    private static void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
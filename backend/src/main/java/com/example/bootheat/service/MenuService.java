@@ -10,7 +10,9 @@ import com.example.bootheat.repository.BoothRepository;
 import com.example.bootheat.repository.MenuItemRepository;
 import com.example.bootheat.repository.OrderItemRepository;
 import com.example.bootheat.support.Category;
+import com.example.bootheat.support.MenuChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ public class MenuService {
     private final BoothRepository boothRepo;
     private final MenuItemRepository menuRepo;
     private final OrderItemRepository orderItemRepo;
+    private final ApplicationEventPublisher events;   // 커밋 후 고객 메뉴 캐시 무효화
 
     @Transactional(readOnly = true)
     public MenuItemDto getOne(Long boothId, Long menuItemId) {
@@ -68,7 +71,9 @@ public class MenuService {
                 .category(category)   // ★ 추가된 필드 저장
                 .build();
 
-        return toDto(menuRepo.save(m));
+        menuRepo.save(m);
+        menuChanged(m);
+        return toDto(m);
     }
 
 
@@ -85,6 +90,7 @@ public class MenuService {
         if (req.category() != null && !req.category().isBlank())
             m.setCategory(Category.valueOf(req.category().toUpperCase()));
 
+        menuChanged(m);
         return toDto(m);
     }
 
@@ -93,12 +99,19 @@ public class MenuService {
                 .orElseThrow(() -> new IllegalArgumentException("MENU_NOT_FOUND"));
         boolean next = !Boolean.TRUE.equals(m.getAvailable());
         m.setAvailable(next);
+        menuChanged(m);
         return next;
     }
 
     public void delete(Long menuItemId) {
-        if (!menuRepo.existsById(menuItemId)) return;
-        menuRepo.deleteById(menuItemId);
+        var m = menuRepo.findById(menuItemId).orElse(null);
+        if (m == null) return;
+        menuRepo.delete(m);
+        menuChanged(m);
+    }
+
+    private void menuChanged(MenuItem m) {
+        events.publishEvent(new MenuChangedEvent(m.getBooth().getBoothId()));
     }
 
     private MenuItemDto toDto(MenuItem m) {
@@ -128,6 +141,7 @@ public class MenuService {
         if (req.description()!=null) m.setDescription(req.description());
         if (req.category()!=null && !req.category().isBlank())
             m.setCategory(Category.valueOf(req.category().toUpperCase()));
+        menuChanged(m);
         return toDto(m);
     }
 
@@ -141,9 +155,11 @@ public class MenuService {
         if (orderItemRepo.existsByMenuItem_MenuItemId(menuItemId)) {
             // 참조가 있으면 숨김 처리만
             m.setAvailable(false);
+            menuChanged(m);
             return;
         }
         menuRepo.delete(m);
+        menuChanged(m);
     }
 
     // service/MenuService.java (setter 추가)
@@ -152,6 +168,25 @@ public class MenuService {
         var m = menuRepo.findById(menuItemId)
                 .orElseThrow(() -> new IllegalArgumentException("MENU_NOT_FOUND"));
         m.setAvailable(available);
+        menuChanged(m);
+    }
+
+    // 이미지 업로드(MenuImageService) 후 썸네일 URL 로 교체
+    @Transactional
+    public void setPreviewImage(Long boothId, Long menuItemId, String url) {
+        var m = menuRepo.findByBooth_BoothIdAndMenuItemId(boothId, menuItemId)
+                .orElseThrow(() -> new IllegalArgumentException("MENU_NOT_FOUND"));
+        m.setPreviewImage(url);
+        menuChanged(m);
+    }
+
+    // 3D 모델 업로드(ModelAssetService) 후 호스팅 URL 로 교체
+    @Transactional
+    public void setModelUrl(Long boothId, Long menuItemId, String url) {
+        var m = menuRepo.findByBooth_BoothIdAndMenuItemId(boothId, menuItemId)
+                .orElseThrow(() -> new IllegalArgumentException("MENU_NOT_FOUND"));
+        m.setModelUrl(url);
+        menuChanged(m);
     }
 
 
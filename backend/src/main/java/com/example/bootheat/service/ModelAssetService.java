@@ -0,0 +1,113 @@
+package com.example.bootheat.service;
+
+import com.example.bootheat.dto.ModelAssetResponse;
+import com.example.bootheat.support.FileTransfer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+// service/ModelAssetService.java
+// 메뉴 3D 모델(glb/gltf/usdz) 로컬 저장소
+// - 파일명 = 내용 SHA-256 앞 16자 + 확장자 → URL 이 곧 버전, ETag 도 해시
+// - gzip 본은 업로드 때 한 번만 최고 압축으로 만들어 옆에 둠 (요청마다 압축하지 않음)
+//   이미 압축된 포맷(Draco glb, usdz=zip)처럼 줄어드는 게 적으면 만들지 않음
+@Service
+public class ModelAssetService {
+
+    private static final Pattern FILE_NAME = Pattern.compile("([0-9a-f]{16})\\.(glb|gltf|usdz)");
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "glb", "model/gltf-binary",
+            "gltf", "model/gltf+json",
+            "usdz", "model/vnd.usdz+zip");
+    private static final double MIN_GZIP_SAVING = 0.1;   // 10% 이상 줄어야 gzip 본 보관
+
+    // 응답할 파일 하나 (gzip 이면 Content-Encoding: gzip 으로 나감)
+    public record Asset(Path file, long length, String etag, String contentType, boolean gzip) {}
+
+    private final MenuService menuService;
+    private final Path assetDir;
+    private final Path tmpDir;
+    private final long maxBytes;
+    private final String urlPrefix;
+
+    public ModelAssetService(MenuService menuService,
+                             @Value("${bootheat.model.dir:${java.io.tmpdir}/bootheat-models}") String dir,
+                             @Value("${bootheat.model.max-bytes:52428800}") long maxBytes,
+                             @Value("${bootheat.model.url-prefix:/api/models/}") String urlPrefix) throws IOException {
+        this.menuService = menuService;
+        Path root = Path.of(dir);
+        this.assetDir = Files.createDirectories(root.resolve("asset"));
+        this.tmpDir = Files.createDirectories(root.resolve("tmp"));
+        this.maxBytes = maxBytes;
+        this.urlPrefix = urlPrefix;
+    }
+
+    // 업로드 → 저장(+gzip 본) → 메뉴 modelUrl 교체. 같은 파일을 다시 올리면 저장은 건너뜀
+    public ModelAssetResponse upload(Long boothId, Long menuItemId, String originalName, InputStream body) throws IOException {
+        menuService.getOne(boothId, menuItemId);      // 본문을 받기 전에 MENU_NOT_FOUND
+        String ext = extension(originalName);
+        Path part = Files.createTempFile(tmpDir, "upload-", ".part");
+        try {
+            String name = FileTransfer.receive(body, part, maxBytes).substring(0, 16) + "." + ext;
+            Path asset = assetDir.resolve(name);
+            if (!Files.exists(asset)) {
+                writeGzip(part, assetDir.resolve(name + ".gz"));
+                Files.move(part, asset, StandardCopyOption.ATOMIC_MOVE);   // 원본이 마지막 → 있으면 gzip 판단도 끝난 것
+            }
+            Path gz = assetDir.resolve(name + ".gz");
+            String url = urlPrefix + name;
+            menuService.setModelUrl(boothId, menuItemId, url);
+            return new ModelAssetResponse(url, Files.size(asset), Files.exists(gz) ? Files.size(gz) : null);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    // acceptGzip 이고 gzip 본이 있으면 그쪽. 형식이 틀리거나 없으면 MODEL_NOT_FOUND
+    public Asset resolve(String fileName, boolean acceptGzip) throws IOException {
+        Matcher m = FILE_NAME.matcher(fileName);
+        if (!m.matches()) throw new IllegalArgumentException("MODEL_NOT_FOUND");
+        String type = CONTENT_TYPES.get(m.group(2));
+        Path gz = assetDir.resolve(fileName + ".gz");
+        if (acceptGzip && Files.exists(gz))
+            return new Asset(gz, Files.size(gz), "\"" + m.group(1) + "-gz\"", type, true);
+        Path file = assetDir.resolve(fileName);
+        if (!Files.exists(file)) throw new IllegalArgumentException("MODEL_NOT_FOUND");
+        return new Asset(file, Files.size(file), "\"" + m.group(1) + "\"", type, false);
+    }
+
+    private static String extension(String originalName) {
+        int dot = (originalName == null) ? -1 : originalName.lastIndexOf('.');
+        String ext = (dot < 0) ? "" : originalName.substring(dot + 1).toLowerCase(Locale.ROOT);
+        if (!CONTENT_TYPES.containsKey(ext)) throw new IllegalArgumentException("INVALID_MODEL_TYPE");
+        return ext;
+    }
+
+    private void writeGzip(Path source, Path target) throws IOException {
+        Path part = Files.createTempFile(tmpDir, "gzip-", ".part");
+        try {
+            try (InputStream in = Files.newInputStream(source);
+                 OutputStream out = new GZIPOutputStream(Files.newOutputStream(part), 64 * 1024) {
+                     { def.setLevel(Deflater.BEST_COMPRESSION); }
+                 }) {
+                in.transferTo(out);
+            }
+            if (Files.size(part) <= Files.size(source) * (1 - MIN_GZIP_SAVING))
+                Files.move(part, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+}
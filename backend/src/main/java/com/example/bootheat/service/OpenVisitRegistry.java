@@ -0,0 +1,121 @@
+package com.example.bootheat.service;
+
+import com.example.bootheat.domain.TableVisit;
+import com.example.bootheat.repository.TableVisitRepository;
+import com.example.bootheat.support.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+// service/OpenVisitRegistry.java
+// tableId → 현재 OPEN visit (메모리). 테이블 현황판/주문 생성/테이블 컨텍스트가 테이블마다 visit 을 조회하지 않도록
+// - visit 생성(TableVisitResolver)과 종료(OrderService.closeCurrentVisit*)가 커밋된 뒤에만 반영
+//   → 롤백된 visit 이 보이지 않음. 둘 다 테이블 락을 쥔 채로 반영되므로 같은 테이블의 다음 트랜잭션은 갱신된 값을 봄
+// - 기동 시 OPEN visit 전체를 쿼리 한 번으로 적재. 적재 중 커밋된 변경은 기록해 두었다가 교체 직후 다시 적용
+@Slf4j
+@Service
+public class OpenVisitRegistry {
+
+    public record OpenVisit(Long visitId, Integer visitNo, LocalDateTime startedAt) {}
+
+    private final TableVisitRepository visitRepo;
+    private volatile Map<Long, OpenVisit> openByTable = new ConcurrentHashMap<>();
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private List<Consumer<Map<Long, OpenVisit>>> duringRebuild;   // 적재 중이 아니면 null
+
+    public OpenVisitRegistry(TableVisitRepository visitRepo) {
+        this.visitRepo = visitRepo;
+    }
+
+    public Optional<OpenVisit> find(Long tableId) {
+        return Optional.ofNullable(openByTable.get(tableId));
+    }
+
+    public boolean isOpen(Long tableId) {
+        return openByTable.containsKey(tableId);
+    }
+
+    // 트랜잭션 안에서 호출 → 커밋 후 반영 (트랜잭션 밖이면 즉시)
+    public void opened(Long tableId, TableVisit v) {
+        var open = new OpenVisit(v.getVisitId(), v.getVisitNo(), v.getStartedAt());
+        afterCommit(() -> apply(m -> m.put(tableId, open)));
+    }
+
+    public void closed(Long tableId, Long visitId) {
+        // 그 사이 새 visit 이 열렸으면 건드리지 않음
+        afterCommit(() -> apply(m -> m.computeIfPresent(tableId,
+                (k, cur) -> cur.visitId().equals(visitId) ? null : cur)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            duringRebuild = new ArrayList<>();
+        } finally {
+            rebuildLock.unlock();
+        }
+        Map<Long, OpenVisit> fresh = new ConcurrentHashMap<>();
+        try {
+            // [tableId, visitId, visitNo, startedAt] — 테이블당 OPEN 이 여럿이면 가장 최근 것 (findFirst...StartedAtDesc 와 같게)
+            for (Object[] r : visitRepo.findVisitRowsByStatus(Status.OPEN)) {
+                var v = new OpenVisit((Long) r[1], (Integer) r[2], (LocalDateTime) r[3]);
+                fresh.merge((Long) r[0], v, (a, b) -> a.startedAt().isAfter(b.startedAt()) ? a : b);
+            }
+            rebuildLock.lock();
+            try {
+                openByTable = fresh;
+                duringRebuild.forEach(c -> c.accept(fresh));
+            } finally {
+                rebuildLock.unlock();
+            }
+        } finally {
+            rebuildLock.lock();
+            try {
+                duringRebuild = null;
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+        log.info("open visit registry rebuilt: {} tables", fresh.size());
+    }
+
+    // 커밋된 변경 반영. 적재 중이면 기록도 해 둠 (put / 같은 visit 일 때만 제거 → 다시 적용해도 결과 같음)
+    private void apply(Consumer<Map<Long, OpenVisit>> change) {
+        rebuildLock.lock();
+        try {
+            if (duringRebuild != null) duringRebuild.add(change);
+        } finally {
+            rebuildLock.unlock();
+        }
+        change.accept(openByTable);
+    }
+
+    private static void afterCommit(Runnable r) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            r.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                r.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.bootheat.service;
+
+import com.example.bootheat.support.BusinessClock;
+import com.example.bootheat.util.CodeGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// service/OrderCodeAllocator.java
+// 주문 insert 전에 부스 × 영업일 일련번호를 발급 (order_id 를 기다렸다가 update 하지 않음)
+// - 영업일은 주문의 business_date 와 같은 BusinessClock 기준 → 자정을 넘긴 새벽 주문도 전날 번호를 이어감
+// - 평소엔 메모리 블록에서 getAndIncrement 만 (락 없음)
+// - 블록을 다 쓰면 order_code_hwm 상한을 BLOCK_SIZE 만큼 올리고 커밋한 뒤 새 블록 사용
+//   → 재기동하면 남은 번호는 건너뛰지만 이미 나간 번호를 다시 쓰지는 않음
+// - 상한 갱신은 전용 커넥션 1개로 (주문 트랜잭션이 커넥션 풀을 다 잡고 기다리는 중에도 교착 없음)
+@Service
+public class OrderCodeAllocator {
+
+    static final int BLOCK_SIZE = 20;
+
+    private static final String ADVANCE_SQL = """
+            merge into order_code_hwm t
+            using (values (cast(? as bigint), cast(? as date), cast(? as int)))
+                  as s(booth_id, business_date, size)
+               on t.booth_id = s.booth_id
+              and t.business_date = s.business_date
+            when matched then update
+                 set high_water = t.high_water + s.size
+            when not matched then insert (booth_id, business_date, high_water)
+                 values (s.booth_id, s.business_date, s.size)
+            """;
+    private static final String HIGH_WATER_SQL =
+            "select high_water from order_code_hwm where booth_id = ? and business_date = ?";
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final BusinessClock clock;
+
+    private final Map<Key, Slot> slots = new ConcurrentHashMap<>();
+
+    public OrderCodeAllocator(DataSourceProperties dataSourceProperties, BusinessClock clock) {
+        this.clock = clock;
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class).build();
+        this.dataSource.setPoolName("order-code");
+        this.dataSource.setMaximumPoolSize(1);
+        this.dataSource.setMinimumIdle(0);
+        this.jdbc = new JdbcTemplate(dataSource);
+        // 주문 트랜잭션과 별개로 커밋 → 주문이 롤백돼도 예약한 상한은 남음 (번호 재사용 방지)
+        this.tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @PreDestroy
+    public void close() {
+        dataSource.close();
+    }
+
+    private record Key(Long boothId, LocalDate date) {}
+
+    // [next, limit] 범위; 다 쓰면 통째로 교체
+    private record Block(AtomicInteger next, int limit) {}
+
+    private static final class Slot {
+        volatile Block block;
+        final ReentrantLock refillLock = new ReentrantLock();   // DB 왕복 중에도 가상 스레드 캐리어를 붙잡지 않게
+    }
+
+    public String nextCode(Long boothId) {
+        return nextCode(boothId, clock.today());
+    }
+
+    // 주문의 영업일(CustomerOrder.businessDate)로 발급 → 코드 날짜와 집계 날짜가 항상 같음
+    public String nextCode(Long boothId, LocalDate businessDate) {
+        return CodeGenerator.orderCode(boothId, businessDate, nextNumber(boothId, businessDate));
+    }
+
+    int nextNumber(Long boothId, LocalDate date) {
+        Key key = new Key(boothId, date);
+        Slot slot = slots.get(key);
+        if (slot == null) slot = slots.computeIfAbsent(key, k -> new Slot());
+
+        while (true) {
+            Block b = slot.block;
+            if (b != null) {
+                int n = b.next().getAndIncrement();
+                if (n <= b.limit()) return n;
+            }
+            refill(key, slot, b);
+        }
+    }
+
+    // 블록 교체만 키별로 직렬화
+    private void refill(Key key, Slot slot, Block exhausted) {
+        slot.refillLock.lock();
+        try {
+            if (slot.block != exhausted) return;   // 다른 스레드가 이미 교체
+            Integer high = tx.execute(st -> {
+                jdbc.update(ADVANCE_SQL, key.boothId(), key.date(), BLOCK_SIZE);
+                return jdbc.queryForObject(HIGH_WATER_SQL, Integer.class, key.boothId(), key.date());
+            });
+            slot.block = new Block(new AtomicInteger(high - BLOCK_SIZE + 1), high);
+        } finally {
+            slot.refillLock.unlock();
+        }
+        // 지난 영업일 블록 정리
+        slots.keySet().removeIf(k -> k.date().isBefore(key.date()));
+    }
+}
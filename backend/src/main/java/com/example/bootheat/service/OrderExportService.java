@@ -0,0 +1,129 @@
+package com.example.bootheat.service;
+
+import com.example.bootheat.dto.OrderItemBrief;
+import com.example.bootheat.dto.OrderWithItemsDto;
+import com.example.bootheat.repository.CustomerOrderRepository;
+import com.example.bootheat.repository.OrderItemRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+// service/OrderExportService.java
+// 전체 부스 일자별 주문 내보내기 (NDJSON / CSV 스트리밍)
+// StatsService.allBoothsOrdersByDate 와 같은 내용이지만, 주문을 커서로 읽으며 CHUNK 단위로 라인을 붙여 바로 기록
+// → 주문 수와 무관하게 힙 사용량 일정
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    private static final int CHUNK = 500;
+
+    private final CustomerOrderRepository orderRepo;
+    private final OrderItemRepository orderItemRepo;
+    private final ObjectMapper om;
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv; charset=UTF-8", "csv");
+
+        public final String contentType;
+        public final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static Format parse(String raw) {
+            for (Format f : values()) {
+                if (f.name().equalsIgnoreCase(raw == null ? "" : raw.trim())) return f;
+            }
+            throw new IllegalArgumentException("UNSUPPORTED_FORMAT");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeOrdersByDate(LocalDate date, Format format, OutputStream rawOut) throws IOException {
+        var zone = ZoneId.systemDefault();
+
+        var out = new BufferedOutputStream(rawOut, 64 * 1024);
+        if (format == Format.CSV) {
+            out.write(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF}); // 엑셀 한글 깨짐 방지 BOM
+            out.write("booth_id,order_id,created_at,total_amount,menu_item_id,name,unit_price,quantity,line_amount\n"
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+
+        List<Object[]> chunk = new ArrayList<>(CHUNK);
+        try (var rows = orderRepo.streamOrderRowsOn(date)) {
+            for (Iterator<Object[]> it = rows.iterator(); it.hasNext(); ) {
+                chunk.add(it.next());
+                if (chunk.size() == CHUNK) {
+                    writeChunk(chunk, format, zone, out);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) writeChunk(chunk, format, zone, out);
+        out.flush();
+    }
+
+    // 주문 CHUNK 건의 라인을 IN 쿼리 한 번으로 붙여서 기록
+    private void writeChunk(List<Object[]> orders, Format format, ZoneId zone, OutputStream out) throws IOException {
+        List<Long> ids = orders.stream().map(r -> (Long) r[0]).toList();
+        Map<Long, List<OrderItemBrief>> linesByOrder = new HashMap<>();
+        for (Object[] r : orderItemRepo.findBriefRowsByOrderIds(ids)) {
+            int unit = (Integer) r[3];
+            int qty = (Integer) r[4];
+            linesByOrder.computeIfAbsent((Long) r[0], k -> new ArrayList<>())
+                    .add(new OrderItemBrief((Long) r[1], (String) r[2], unit, qty, (long) unit * qty));
+        }
+
+        for (Object[] r : orders) {
+            var dto = new OrderWithItemsDto(
+                    (Long) r[0],
+                    (Long) r[1],
+                    (Integer) r[2],
+                    ((LocalDateTime) r[3]).atZone(zone).toInstant(),
+                    linesByOrder.getOrDefault((Long) r[0], List.of())
+            );
+            if (format == Format.NDJSON) {
+                out.write(om.writeValueAsBytes(dto));
+                out.write('\n');
+            } else {
+                writeCsv(dto, out);
+            }
+        }
+        out.flush(); // 청크마다 내보내서 클라이언트가 바로 받기 시작
+    }
+
+    private static void writeCsv(OrderWithItemsDto o, OutputStream out) throws IOException {
+        String prefix = o.boothId() + "," + o.orderId() + "," + o.createdAt() + "," + o.totalAmount() + ",";
+        var sb = new StringBuilder();
+        if (o.orderItems().isEmpty()) {
+            sb.append(prefix).append(",,,,\n");
+        }
+        for (OrderItemBrief l : o.orderItems()) {
+            sb.append(prefix)
+                    .append(l.menuItemId()).append(',')
+                    .append(csv(l.name())).append(',')
+                    .append(l.unitPrice()).append(',')
+                    .append(l.quantity()).append(',')
+                    .append(l.lineAmount()).append('\n');
+        }
+        out.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String csv(String v) {
+        if (v == null) return "";
+        if (v.indexOf(',') < 0 && v.indexOf('"') < 0 && v.indexOf('\n') < 0 && v.indexOf('\r') < 0) return v;
+        return "\"" + v.replace("\"", "\"\"") + "\"";
+    }
+}
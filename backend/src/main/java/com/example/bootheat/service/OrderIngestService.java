@@ -0,0 +1,395 @@
+package com.example.bootheat.service;
+
+import com.example.bootheat.domain.CustomerOrder;
+import com.example.bootheat.domain.OrderItem;
+import com.example.bootheat.domain.PaymentInfo;
+import com.example.bootheat.dto.CreateOrderRequest;
+import com.example.bootheat.dto.OrderCreatedResponse;
+import com.example.bootheat.repository.BoothTableRepository;
+import com.example.bootheat.repository.CustomerOrderRepository;
+import com.example.bootheat.support.BusinessClock;
+import com.example.bootheat.support.OrderChangedEvent;
+import com.example.bootheat.support.Status;
+import com.example.bootheat.support.WriteAheadLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// service/OrderIngestService.java
+// 주문 WAL 적재 모드 (bootheat.ingest.mode=wal). 주문마다 DB 커밋/fsync 를 하지 않고 모아서 한 트랜잭션으로
+// - 제출: 테이블/메뉴 검증(읽기) → order_id·주문번호 선발급 → 로컬 WAL 에 append(fsync, 동시 제출끼리 묶음) → 응답
+// - 단일 writer 스레드가 큐에서 최대 maxBatch 건씩 꺼내 한 트랜잭션에 JDBC 배치 insert, 커밋 후 이벤트 전파
+//   OPEN visit 확인/생성은 그 전에 테이블마다 짧은 트랜잭션으로 → 배치 트랜잭션은 테이블 락을 쥐지 않음
+//   (테이블 비우기와 겹치면 주문은 비우기 직전 visit 에 붙음 = 비우기 전에 들어온 주문과 같음)
+//   배치가 실패하면 한 건씩 다시 시도 (한 건 때문에 배치 전체가 밀리지 않게)
+//   한 건으로도 실패한 주문(이미 응답 나감)은 dead-letter 로그에 남김 → 버리지 않고 확인/재처리
+//   WAL 비우기는 커밋됐거나 dead-letter 에 기록된 레코드만 셈
+// - 기동 시 WAL 에 남은 레코드 중 DB 에 없는 주문만 재생 후 WAL 비움
+// - Idempotency-Key 는 반영될 때까지 메모리에 (키 → 최초 응답). 재요청은 대기 키 → DB 순으로 확인해 최초 응답
+//   (키 단위 직렬화는 OrderSubmissionService 가 담당)
+// ⚠️ 응답은 WAL 기록 후, DB 반영 전 → 잠깐 동안 GET /orders/{id} 가 ORDER_NOT_FOUND 일 수 있음
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "bootheat.ingest.mode", havingValue = "wal")
+public class OrderIngestService {
+
+    private static final long TRUNCATE_BYTES = 1 << 20;   // 다 반영됐고 1MB 를 넘으면 WAL 비움
+
+    private static final String INSERT_ORDER = """
+            insert into customer_order (order_id, booth_id, table_id, visit_id, status, order_code,
+                                        idempotency_key, total_amount, created_at, business_date, hour_bucket)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_ITEM = """
+            insert into order_item (order_item_id, order_id, menu_item_id, quantity, unit_price)
+            values (?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_PAYMENT = """
+            insert into payment_info (payment_info_id, order_id, payer_name, amount, paid_at)
+            values (?, ?, ?, ?, ?)
+            """;
+
+    // WAL 한 줄 (JSON). 메뉴 이름은 이벤트(주방 큐/집계)용
+    public record IngestRecord(Long orderId, String orderCode, String idempotencyKey, LocalDateTime createdAt,
+                               Long boothId, Long tableId, String payerName, Integer totalAmount,
+                               List<OrderChangedEvent.Line> lines) {}
+
+    public record IngestStats(long batches, long applied, long failed, long deadLettered, long pending) {}
+
+    private final OrderService orderService;
+    private final OrderCodeAllocator codeAllocator;
+    private final TableVisitResolver visitResolver;
+    private final BoothTableRepository tableRepo;
+    private final CustomerOrderRepository orderRepo;
+    private final ApplicationEventPublisher events;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final SessionFactoryImplementor sessionFactory;
+    private final WriteAheadLog wal;
+    private final WriteAheadLog deadLetters;   // 반영 실패 주문 (같은 포맷, 비우지 않음)
+    private final BusinessClock clock;
+    private final int maxBatch;
+
+    private final BlockingQueue<IngestRecord> queue = new LinkedBlockingQueue<>();
+    // 반영(커밋/dead-letter) 전인 키 → 최초 응답. 커밋 후에 지우므로 "여기 없으면 DB 에 있음" 이 성립
+    private final Map<String, OrderCreatedResponse> pendingKeys = new ConcurrentHashMap<>();
+    // 제출(append + enqueue)은 read lock, 재생(start)은 write lock → 재생 중 들어온 주문이 사라지거나 두 번 반영되지 않음
+    private final ReentrantReadWriteLock replayLock = new ReentrantReadWriteLock();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+    private long settled;                     // 마지막 WAL 비움 이후 처리 끝난 레코드 수 (writer 스레드만)
+    private boolean keepWal;                  // 재생 때 처리 못 한 레코드가 WAL 에 남아 있음 → 이번 기동 동안 비우지 않음
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public OrderIngestService(OrderService orderService,
+                              OrderCodeAllocator codeAllocator,
+                              TableVisitResolver visitResolver,
+                              BoothTableRepository tableRepo,
+                              CustomerOrderRepository orderRepo,
+                              ApplicationEventPublisher events,
+                              ObjectMapper objectMapper,
+                              JdbcTemplate jdbc,
+                              PlatformTransactionManager txManager,
+                              EntityManagerFactory emf,
+                              BusinessClock clock,
+                              @Value("${bootheat.ingest.wal-path:${user.home}/bootheat-orders.wal}") String walPath,
+                              @Value("${bootheat.ingest.dead-letter-path:}") String deadLetterPath,
+                              @Value("${bootheat.ingest.max-batch:200}") int maxBatch) throws IOException {
+        this.orderService = orderService;
+        this.codeAllocator = codeAllocator;
+        this.visitResolver = visitResolver;
+        this.tableRepo = tableRepo;
+        this.orderRepo = orderRepo;
+        this.events = events;
+        this.objectMapper = objectMapper;
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+        this.sessionFactory = emf.unwrap(SessionFactoryImplementor.class);
+        this.wal = new WriteAheadLog(Path.of(walPath));
+        this.deadLetters = new WriteAheadLog(Path.of(deadLetterPath.isBlank() ? walPath + ".dead" : deadLetterPath));
+        this.maxBatch = maxBatch;
+        this.clock = clock;
+    }
+
+    public OrderCreatedResponse submit(CreateOrderRequest req, String idempotencyKey) {
+        // 재생(write lock) 중이면 끝날 때까지 대기 → 재생된 키는 아래 DB 조회에서 보임
+        replayLock.readLock().lock();
+        try {
+            if (idempotencyKey != null) {
+                var first = pendingKeys.get(idempotencyKey);
+                if (first != null) return first;
+                var done = orderRepo.findByIdempotencyKey(idempotencyKey);
+                if (done.isPresent()) return OrderSubmissionService.toResponse(done.get());
+            }
+            return append(req, idempotencyKey);
+        } finally {
+            replayLock.readLock().unlock();
+        }
+    }
+
+    private OrderCreatedResponse append(CreateOrderRequest req, String idempotencyKey) {
+        var table = orderService.findOrderTable(req);
+        var menus = orderService.findOrderMenus(req);
+
+        var lines = req.items().stream()
+                .map(it -> new OrderChangedEvent.Line(it.foodId(), menus.get(it.foodId()).getName(),
+                        it.quantity(), it.price()))          // ★ 클라 가격 사용 (createOrder 와 같음)
+                .toList();
+        var createdAt = LocalDateTime.now();
+        var rec = new IngestRecord(
+                nextIds(CustomerOrder.class, 1)[0],
+                codeAllocator.nextCode(req.boothId(), clock.businessDate(createdAt)),   // insert 때 business_date 와 같은 날짜
+                idempotencyKey,
+                createdAt,
+                req.boothId(), table.getTableId(),
+                req.payment().payerName(), req.payment().amount(),
+                lines);
+
+        var res = new OrderCreatedResponse(
+                rec.orderId(),
+                rec.orderCode(),
+                "PENDDING",                      // 의도적 철자 (프론트 계약)
+                rec.totalAmount(),
+                rec.createdAt().atZone(ZoneId.systemDefault()).toInstant()
+        );
+        try {
+            wal.append(objectMapper.writeValueAsBytes(rec));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (idempotencyKey != null) pendingKeys.put(idempotencyKey, res);   // writer 가 꺼내기 전에
+        pending.incrementAndGet();
+        queue.add(rec);
+        return res;
+    }
+
+    public IngestStats stats() {
+        return new IngestStats(batches.get(), applied.get(), failed.get(), deadLettered.get(), pending.get());
+    }
+
+    // dead-letter 로그의 주문들 (확인/수동 재처리용)
+    public List<IngestRecord> deadLetters() throws IOException {
+        List<IngestRecord> records = new ArrayList<>();
+        for (byte[] b : deadLetters.readAll()) records.add(objectMapper.readValue(b, IngestRecord.class));
+        return records;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException {
+        replayLock.writeLock().lock();
+        try {
+            queue.clear();               // 큐에 있던 건 전부 WAL 에도 있음
+            replay();
+            pendingKeys.clear();         // 재생으로 모두 반영/dead-letter 됨
+            pending.set(0);
+            settled = 0;
+        } finally {
+            replayLock.writeLock().unlock();
+        }
+        running = true;
+        writer = new Thread(this::drainLoop, "order-ingest-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // writer 만 멈춤. 큐에 남은 주문은 WAL 에 있으므로 다음 start 에서 재생
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) writer.join();
+        writer = null;
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException, IOException {
+        stop();
+        wal.close();
+        deadLetters.close();
+    }
+
+    private void replay() throws IOException {
+        List<IngestRecord> records = new ArrayList<>();
+        for (byte[] b : wal.readAll()) records.add(objectMapper.readValue(b, IngestRecord.class));
+        if (!records.isEmpty()) {
+            Set<Long> done = new HashSet<>(orderRepo.findExistingOrderIds(
+                    records.stream().map(IngestRecord::orderId).toList()));
+            List<IngestRecord> missing = records.stream().filter(r -> !done.contains(r.orderId())).toList();
+            int settledCount = 0;
+            for (int i = 0; i < missing.size(); i += maxBatch) {
+                settledCount += apply(missing.subList(i, Math.min(missing.size(), i + maxBatch)));
+            }
+            log.info("order WAL replayed: {} records, {} missing, {} settled", records.size(), missing.size(), settledCount);
+            if (settledCount < missing.size()) {
+                // dead-letter 기록도 실패 → WAL 에 그대로 두고 다음 기동 때 다시
+                keepWal = true;
+                log.error("order WAL kept: {} records could not be applied or dead-lettered", missing.size() - settledCount);
+                return;
+            }
+        }
+        keepWal = false;
+        wal.truncate();
+    }
+
+    private void drainLoop() {
+        List<IngestRecord> batch = new ArrayList<>(maxBatch);
+        while (running) {
+            try {
+                IngestRecord first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - 1);
+
+                settled += apply(batch);
+                pending.addAndGet(-batch.size());
+                if (!keepWal && wal.truncateIfSettled(settled, TRUNCATE_BYTES)) settled = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // WAL 비우기 실패 등 — 다음 기동 때 재생하면서 이미 반영된 건 건너뜀
+                log.warn("order ingest writer error", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 반환: WAL 에서 지워도 되는 레코드 수 (커밋됨 또는 dead-letter 기록됨)
+    private int apply(List<IngestRecord> batch) {
+        Map<Long, Long> visitIds = new HashMap<>();
+        List<IngestRecord> ready = new ArrayList<>(batch.size());
+        int done = 0;
+        for (IngestRecord r : batch) {
+            try {
+                visitIds.computeIfAbsent(r.tableId(), this::resolveVisit);
+                ready.add(r);
+            } catch (RuntimeException e) {
+                if (deadLetter(r, e)) done++;
+            }
+        }
+        return ready.isEmpty() ? done : done + insertAll(ready, visitIds);
+    }
+
+    // 테이블 락은 이 짧은 트랜잭션 동안만 (createOrder 와 같은 resolver)
+    private Long resolveVisit(Long tableId) {
+        return tx.execute(st -> visitResolver.resolveOpenVisit(tableRepo.getReferenceById(tableId)).getVisitId());
+    }
+
+    // 배치 한 트랜잭션 → 실패하면 한 건씩
+    private int insertAll(List<IngestRecord> batch, Map<Long, Long> visitIds) {
+        try {
+            tx.executeWithoutResult(st -> insert(batch, visitIds));
+            settleKeys(batch);
+            batches.incrementAndGet();
+            applied.addAndGet(batch.size());
+            return batch.size();
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) return deadLetter(batch.get(0), e) ? 1 : 0;
+            log.warn("order ingest batch failed, retrying one by one ({} orders)", batch.size(), e);
+        }
+        int done = 0;
+        for (IngestRecord r : batch) done += insertAll(List.of(r), visitIds);
+        return done;
+    }
+
+    // TABLE_BUSY, 키 충돌, 삭제된 테이블 등 — 응답은 이미 나갔으므로 버리지 않음
+    private boolean deadLetter(IngestRecord r, RuntimeException cause) {
+        failed.incrementAndGet();
+        log.error("order ingest failed, moving to dead-letter: orderId={}", r.orderId(), cause);
+        try {
+            deadLetters.append(objectMapper.writeValueAsBytes(r));
+            settleKeys(List.of(r));
+            deadLettered.incrementAndGet();
+            return true;
+        } catch (IOException e) {
+            log.error("dead-letter write failed, order stays in WAL: orderId={}", r.orderId(), e);
+            return false;
+        }
+    }
+
+    private void settleKeys(List<IngestRecord> records) {
+        for (IngestRecord r : records) {
+            if (r.idempotencyKey() != null) pendingKeys.remove(r.idempotencyKey());
+        }
+    }
+
+    private void insert(List<IngestRecord> batch, Map<Long, Long> visitIds) {
+        int lineCount = batch.stream().mapToInt(r -> r.lines().size()).sum();
+        long[] itemIds = nextIds(OrderItem.class, lineCount);
+        long[] paymentIds = nextIds(PaymentInfo.class, batch.size());
+
+        List<Object[]> orders = new ArrayList<>(batch.size());
+        List<Object[]> items = new ArrayList<>(lineCount);
+        List<Object[]> payments = new ArrayList<>(batch.size());
+        List<OrderChangedEvent> created = new ArrayList<>(batch.size());
+        int li = 0, pi = 0;
+        for (IngestRecord r : batch) {
+            Long visitId = visitIds.get(r.tableId());
+
+            // 영업일/시간 버킷은 WAL 에 두지 않고 반영 시 계산 (createOrder 와 같은 BusinessClock)
+            LocalDate businessDate = clock.businessDate(r.createdAt());
+            int hourBucket = clock.hourBucket(r.createdAt());
+            orders.add(new Object[]{r.orderId(), r.boothId(), r.tableId(), visitId, Status.PENDING,
+                    r.orderCode(), r.idempotencyKey(), r.totalAmount(), r.createdAt(), businessDate, hourBucket});
+            for (var l : r.lines()) {
+                items.add(new Object[]{itemIds[li++], r.orderId(), l.menuItemId(), l.quantity(), l.unitPrice()});
+            }
+            payments.add(new Object[]{paymentIds[pi++], r.orderId(), r.payerName(), r.totalAmount(), r.createdAt()});
+            created.add(new OrderChangedEvent(OrderChangedEvent.Type.CREATED, r.orderId(), r.boothId(),
+                    r.tableId(), visitId, r.orderCode(), Status.PENDING, null, r.totalAmount(),
+                    r.createdAt(), businessDate, hourBucket, null, r.lines()));
+        }
+
+        jdbc.batchUpdate(INSERT_ORDER, orders);
+        jdbc.batchUpdate(INSERT_ITEM, items);
+        jdbc.batchUpdate(INSERT_PAYMENT, payments);
+        created.forEach(events::publishEvent);       // 커밋 후 리스너(주방 큐/SSE/집계)로
+    }
+
+    // 엔티티에 매핑된 Hibernate id 생성기(pooled 시퀀스)를 그대로 사용 → createOrder 경로와 id 가 겹치지 않음
+    private long[] nextIds(Class<?> entity, int count) {
+        var generator = (IdentifierGenerator) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(entity).getGenerator();
+        long[] ids = new long[count];
+        if (count == 0) return ids;
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            for (int i = 0; i < count; i++) {
+                ids[i] = ((Number) generator.generate((SharedSessionContractImplementor) session, null)).longValue();
+            }
+        }
+        return ids;
+    }
+}
@@ -3,51 +3,61 @@ package com.example.bootheat.service;
 import com.example.bootheat.domain.*;
 import com.example.bootheat.dto.*;
 import com.example.bootheat.repository.*;
+import com.example.bootheat.support.BusinessClock;
+import com.example.bootheat.support.OrderChangedEvent;
 import com.example.bootheat.support.Status;
-import com.example.bootheat.util.CodeGenerator;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
     private final BoothRepository boothRepo;
     private final BoothTableRepository tableRepo;
-    private final MenuItemRepository menuRepo;
     private final TableVisitRepository visitRepo;       // NEW
     private final CustomerOrderRepository orderRepo;
     private final OrderItemRepository orderItemRepo;
     private final PaymentInfoRepository paymentRepo;
+    private final ApplicationEventPublisher events;     // 커밋 후 SSE 등으로 전파
+    private final OrderCodeAllocator codeAllocator;
+    private final TableVisitResolver visitResolver;
+    private final OpenVisitRegistry openVisits;
+    private final EntityManager em;
+    private final BusinessClock clock;                  // 주문 영업일/시간 버킷
 
     // service/OrderService.java (createOrder 수정)
     @Transactional
     public OrderCreatedResponse createOrder(CreateOrderRequest req) {
-        Booth booth = boothRepo.findById(req.boothId())
-                .orElseThrow(() -> new IllegalArgumentException("BOOTH_NOT_FOUND"));
-        BoothTable table = tableRepo.findByBooth_BoothIdAndTableNumber(req.boothId(), req.tableNo())
-                .orElseThrow(() -> new IllegalArgumentException("TABLE_NOT_FOUND"));
+        return createOrder(req, null);
+    }
 
-        // OPEN visit 재사용 or 새로 생성
-        TableVisit visit = visitRepo
-                .findFirstByTable_TableIdAndStatusOrderByStartedAtDesc(table.getTableId(), Status.OPEN)
-                .orElseGet(() -> {
-                    int nextNo = visitRepo.findTopByTable_TableIdOrderByVisitNoDesc(table.getTableId())
-                            .map(v -> v.getVisitNo() + 1).orElse(1);
-                    return visitRepo.save(TableVisit.builder()
-                            .table(table).visitNo(nextNo).status(Status.OPEN).build());
-                });
+    // idempotencyKey: 재전송 중복 제거용 (OrderSubmissionService), 없으면 null
+    @Transactional
+    public OrderCreatedResponse createOrder(CreateOrderRequest req, String idempotencyKey) {
+        BoothTable table = findOrderTable(req);
+        Booth booth = table.getBooth();
+
+        // OPEN visit 재사용 or 새로 생성 (동시 주문 직렬화는 resolver 가 담당)
+        TableVisit visit = visitResolver.resolveOpenVisit(table);
 
         // ✅ 클라 값을 신뢰: unitPrice = req.items[*].price
+        Map<Long, MenuItem> menus = findOrderMenus(req);
+
         int computedSum = 0;
         List<OrderItem> lines = new java.util.ArrayList<>();
         for (var it : req.items()) {
-            var mi = menuRepo.findById(it.foodId())
-                    .orElseThrow(() -> new IllegalArgumentException("MENU_NOT_FOUND"));
+            var mi = menus.get(it.foodId());
             int unit = it.price();               // ★ 클라 가격 사용
             int qty  = it.quantity();
             computedSum += unit * qty;
@@ -68,9 +78,12 @@ public class OrderService {
         order.setVisit(visit);
         order.setStatus(Status.PENDING);         // 내부 상태
         order.setTotalAmount(totalAmount);       // ★ 클라 금액 사용
+        order.setBusinessDate(clock.businessDate(order.getCreatedAt()));
+        order.setHourBucket(clock.hourBucket(order.getCreatedAt()));
+        order.setOrderCode(codeAllocator.nextCode(booth.getBoothId(), order.getBusinessDate()));  // insert 전에 발급 → insert 한 번
+        order.setIdempotencyKey(idempotencyKey);
 
-        orderRepo.saveAndFlush(order);
-        order.setOrderCode(CodeGenerator.orderCodeFromId(order.getOrderId()));
+        orderRepo.save(order);
 
         for (OrderItem oi : lines) oi.setOrder(order);
         orderItemRepo.saveAll(lines);
@@ -81,15 +94,39 @@ public class OrderService {
         pi.setAmount(totalAmount);               // ★ 클라 금액 저장
         paymentRepo.save(pi);
 
+        events.publishEvent(OrderChangedEvent.created(order, lines));
+
         // ✅ 응답 status는 스펙 그대로 "PENDDING"
         return new OrderCreatedResponse(
                 order.getOrderId(),
+                order.getOrderCode(),
                 "PENDDING",                      // 의도적 철자 (프론트 계약)
                 totalAmount,
                 order.getCreatedAt().atZone(java.time.ZoneId.systemDefault()).toInstant()
         );
     }
 
+    // 테이블 조회로 부스까지 확인 (부스 존재 여부는 실패했을 때만 따로 조회) — OrderIngestService 도 사용
+    BoothTable findOrderTable(CreateOrderRequest req) {
+        return tableRepo.findByBooth_BoothIdAndTableNumber(req.boothId(), req.tableNo())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        boothRepo.existsById(req.boothId()) ? "TABLE_NOT_FOUND" : "BOOTH_NOT_FOUND"));
+    }
+
+    // 메뉴는 2차 캐시에서 먼저 찾고, 없는 것만 IN 쿼리 한 번 (multiLoad). 하나라도 없으면 MENU_NOT_FOUND
+    // (세션을 직접 쓰므로 트랜잭션 밖 호출 — ingest 모드 — 에도 읽기 트랜잭션을 염)
+    @Transactional(readOnly = true)
+    Map<Long, MenuItem> findOrderMenus(CreateOrderRequest req) {
+        List<Long> ids = req.items().stream().map(CreateOrderRequest.Item::foodId).distinct().toList();
+        Map<Long, MenuItem> menus = em.unwrap(Session.class).byMultipleIds(MenuItem.class).multiLoad(ids)
+                .stream().filter(Objects::nonNull)
+                .collect(Collectors.toMap(MenuItem::getMenuItemId, m -> m));
+        for (var it : req.items()) {
+            if (!menus.containsKey(it.foodId())) throw new IllegalArgumentException("MENU_NOT_FOUND");
+        }
+        return menus;
+    }
+
     @Transactional(readOnly = true)
     public OrderDetailResponse getOrder(Long orderId) {
         CustomerOrder o = orderRepo.findById(orderId)
@@ -138,6 +175,7 @@ public class OrderService {
         if (!Status.PENDING.equals(o.getStatus()))
             throw new IllegalStateException("INVALID_STATE");
         o.setStatus(Status.REJECTED);
+        events.publishEvent(OrderChangedEvent.statusChanged(o, Status.PENDING));
     }
 
     @Transactional
@@ -145,7 +183,9 @@ public class OrderService {
         var o = orderRepo.findById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("ORDER_NOT_FOUND"));
         // 필요 시 추가 규칙
+        String prev = o.getStatus();
         o.setStatus(Status.PENDING);
+        events.publishEvent(OrderChangedEvent.statusChanged(o, prev));
     }
 
     @Transactional
@@ -155,6 +195,7 @@ public class OrderService {
         if (!Status.PENDING.equals(o.getStatus())) throw new IllegalStateException("INVALID_STATE");
         o.setStatus(Status.APPROVED);
         o.setApprovedAt(java.time.LocalDateTime.now());
+        events.publishEvent(OrderChangedEvent.statusChanged(o, Status.PENDING));
     }
 
     @Transactional
@@ -165,6 +206,7 @@ public class OrderService {
             throw new IllegalStateException("INVALID_STATE"); // APPROVED -> FINISHED만 허용
         }
         o.setStatus(Status.FINISHED);
+        events.publishEvent(OrderChangedEvent.statusChanged(o, Status.APPROVED));
     }
 
     // (선택) 테이블 비우기(visit 종료)
@@ -172,25 +214,32 @@ public class OrderService {
     public void closeCurrentVisit(Long boothId, Integer tableNo) {
         BoothTable table = tableRepo.findByBooth_BoothIdAndTableNumber(boothId, tableNo)
                 .orElseThrow(() -> new IllegalArgumentException("TABLE_NOT_FOUND"));
+        visitResolver.lockUntilCompletion(table.getTableId());
         visitRepo.findFirstByTable_TableIdAndStatusOrderByStartedAtDesc(table.getTableId(), Status.OPEN)
                 .ifPresent(v -> {
                     v.setStatus(Status.CLOSED);
                     v.setClosedAt(java.time.LocalDateTime.now());
+                    openVisits.closed(table.getTableId(), v.getVisitId());
                 });
     }
 
     @Transactional
     public void closeCurrentVisitByTableId(Long tableId) {
         var table = tableRepo.findById(tableId).orElseThrow(() -> new IllegalArgumentException("TABLE_NOT_FOUND"));
+        visitResolver.lockUntilCompletion(tableId);
         visitRepo.findFirstByTable_TableIdAndStatusOrderByStartedAtDesc(tableId, Status.OPEN)
-                .ifPresent(v -> { v.setStatus(Status.CLOSED); v.setClosedAt(java.time.LocalDateTime.now()); });
+                .ifPresent(v -> {
+                    v.setStatus(Status.CLOSED);
+                    v.setClosedAt(java.time.LocalDateTime.now());
+                    openVisits.closed(tableId, v.getVisitId());
+                });
     }
 
     public List<TableContextResponse.OrderRow> getLatestVisitOrders(Long tableId) {
-        var visit = visitRepo.findFirstByTable_TableIdAndStatusOrderByStartedAtDesc(tableId, Status.OPEN)
+        Long visitId = openVisits.find(tableId).map(OpenVisitRegistry.OpenVisit::visitId)
                 .orElseGet(() -> visitRepo.findTopByTable_TableIdOrderByStartedAtDesc(tableId)
-                        .orElseThrow(() -> new IllegalArgumentException("VISIT_NOT_FOUND")));
-        return orderRepo.findByVisit_VisitIdOrderByCreatedAtDesc(visit.getVisitId())
+                        .orElseThrow(() -> new IllegalArgumentException("VISIT_NOT_FOUND")).getVisitId());
+        return orderRepo.findByVisit_VisitIdOrderByCreatedAtDesc(visitId)
                 .stream().map(o -> new TableContextResponse.OrderRow(
                         o.getOrderId(), o.getOrderCode(), o.getStatus(), o.getTotalAmount(),
                         o.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant(),
@@ -203,7 +252,7 @@ public class OrderService {
         var table = tableRepo.findById(tableId).orElseThrow(() -> new IllegalArgumentException("TABLE_NOT_FOUND"));
         if (!table.getBooth().getBoothId().equals(boothId))
             throw new IllegalArgumentException("BOOTH_TABLE_MISMATCH");
-        return orderRepo.findByBooth_BoothIdAndTable_TableIdOrderByCreatedAtDesc(boothId, tableId)
+        return orderRepo.findByBooth_BoothIdAndTable_TableIdOrderByCreatedAtDescOrderIdDesc(boothId, tableId)
                 .stream().map(o -> new TableContextResponse.OrderRow(
                         o.getOrderId(), o.getOrderCode(), o.getStatus(), o.getTotalAmount(),
                         o.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant(),
@@ -0,0 +1,78 @@
+package com.example.bootheat.service;
+
+import com.example.bootheat.dto.OrderStatusResponse;
+import com.example.bootheat.repository.CustomerOrderRepository;
+import com.example.bootheat.support.OrderChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// service/OrderStatusWaitService.java
+// 주문 상태 변경 대기(long-poll). 대기 중인 요청은 DeferredResult로 보관 → 서블릿 스레드 점유 없음
+@Service
+@RequiredArgsConstructor
+public class OrderStatusWaitService {
+
+    public static final long DEFAULT_TIMEOUT_MS = 25_000;
+    private static final long MAX_TIMEOUT_MS = 55_000;
+
+    private final CustomerOrderRepository orderRepo;
+
+    private final Map<Long, Set<DeferredResult<ResponseEntity<OrderStatusResponse>>>> waiters =
+            new ConcurrentHashMap<>();
+
+    // since: 클라이언트가 이미 알고 있는 상태. 현재 상태가 다르면 즉시 응답, 같으면 변경/타임아웃까지 대기
+    // 타임아웃 시 204 → 클라이언트는 같은 since로 다시 호출
+    public DeferredResult<ResponseEntity<OrderStatusResponse>> await(Long orderId, String since, long timeoutMs) {
+        long timeout = Math.min(Math.max(timeoutMs, 1_000), MAX_TIMEOUT_MS);
+        DeferredResult<ResponseEntity<OrderStatusResponse>> result =
+                new DeferredResult<>(timeout, ResponseEntity.noContent().build());
+
+        // 먼저 등록한 뒤 현재 상태를 확인해야 그 사이의 커밋 이벤트를 놓치지 않음
+        waiters.computeIfAbsent(orderId, k -> ConcurrentHashMap.newKeySet()).add(result);
+        result.onCompletion(() -> remove(orderId, result));
+
+        var o = orderRepo.findById(orderId).orElse(null);
+        if (o == null) {
+            result.setErrorResult(new IllegalArgumentException("ORDER_NOT_FOUND"));
+        } else if (since == null || !since.equalsIgnoreCase(o.getStatus())) {
+            result.setResult(ResponseEntity.ok(toResponse(o.getOrderId(), o.getStatus(), o.getApprovedAt())));
+        }
+        return result;
+    }
+
+    @TransactionalEventListener
+    public void onOrderChanged(OrderChangedEvent e) {
+        if (e.type() != OrderChangedEvent.Type.STATUS_CHANGED) return;
+        var pending = waiters.remove(e.orderId());
+        if (pending == null) return;
+
+        var body = ResponseEntity.ok(toResponse(e.orderId(), e.status(), e.approvedAt()));
+        for (var result : pending) {
+            result.setResult(body);
+        }
+    }
+
+    private void remove(Long orderId, DeferredResult<ResponseEntity<OrderStatusResponse>> result) {
+        waiters.computeIfPresent(orderId, (k, set) -> {
+            set.remove(result);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static OrderStatusResponse toResponse(Long orderId, String status, LocalDateTime approvedAt) {
+        return new OrderStatusResponse(
+                orderId,
+                status,
+                approvedAt == null ? null : approvedAt.atZone(ZoneId.systemDefault()).toInstant()
+        );
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.bootheat.service;
+
+import com.example.bootheat.dto.OrderEventPayload;
+import com.example.bootheat.support.OrderChangedEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+// service/OrderStreamService.java
+// 부스별 SSE 구독자 관리 + 주문 이벤트 푸시 (매니저 주문판 폴링 대체)
+@Service
+public class OrderStreamService {
+
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L; // 30분 후 클라이언트 재연결
+
+    private final Map<Long, Set<SseEmitter>> emittersByBooth = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(Long boothId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        emittersByBooth.computeIfAbsent(boothId, k -> new CopyOnWriteArraySet<>()).add(emitter);
+
+        emitter.onCompletion(() -> remove(boothId, emitter));
+        emitter.onTimeout(() -> remove(boothId, emitter));
+        emitter.onError(e -> remove(boothId, emitter));
+
+        // 연결 직후 한 번 보내서 프록시/브라우저가 스트림을 바로 열도록 함
+        send(boothId, emitter, SseEmitter.event().name("connected").data(boothId));
+        return emitter;
+    }
+
+    // 커밋된 변경만 푸시 (롤백된 주문이 보드에 뜨지 않도록)
+    @TransactionalEventListener
+    public void onOrderChanged(OrderChangedEvent e) {
+        var emitters = emittersByBooth.get(e.boothId());
+        if (emitters == null || emitters.isEmpty()) return;
+
+        String name = (e.type() == OrderChangedEvent.Type.CREATED) ? "order-created" : "status-changed";
+        var payload = OrderEventPayload.from(e);
+        for (SseEmitter emitter : emitters) {
+            send(e.boothId(), emitter, SseEmitter.event()
+                    .name(name)
+                    .id(String.valueOf(e.orderId()))
+                    .data(payload));
+        }
+    }
+
+    // 유휴 연결이 프록시에서 끊기지 않도록 + 끊긴 구독자 정리
+    @Scheduled(fixedDelay = 20_000)
+    public void heartbeat() {
+        emittersByBooth.forEach((boothId, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                send(boothId, emitter, SseEmitter.event().comment("ping"));
+            }
+        });
+    }
+
+    public int subscriberCount(Long boothId) {
+        var emitters = emittersByBooth.get(boothId);
+        return emitters == null ? 0 : emitters.size();
+    }
+
+    private void send(Long boothId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException ex) {
+            // 클라이언트가 끊겼거나 이미 완료된 emitter → 구독 해제만 (컨테이너가 정리)
+            remove(boothId, emitter);
+        }
+    }
+
+    private void remove(Long boothId, SseEmitter emitter) {
+        emittersByBooth.computeIfPresent(boothId, (k, set) -> {
+            set.remove(emitter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.bootheat.service;
+
+import com.example.bootheat.domain.CustomerOrder;
+import com.example.bootheat.dto.CreateOrderRequest;
+import com.example.bootheat.dto.OrderCreatedResponse;
+import com.example.bootheat.repository.CustomerOrderRepository;
+import com.example.bootheat.support.ExpiringLruCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.concurrent.locks.ReentrantLock;
+
+// service/OrderSubmissionService.java
+// 주문 제출 + Idempotency-Key 중복 제거 (응답 유실 후 폰이 재전송해도 주문은 한 번만)
+// - 같은 키 재요청 → 트랜잭션 없이 캐시의 최초 응답 그대로 반환
+// - 캐시에 없으면(만료/재기동) customer_order.idempotency_key 로 조회해 응답 재구성
+// - 동시에 같은 키 두 건 → 키 해시 스트라이프 락으로 직렬화, 뒤의 요청은 앞 요청이 캐시에 넣은 응답을 받음
+//   (다중 인스턴스면 유니크 제약에서 한쪽이 롤백되고, 먼저 커밋된 주문을 돌려줌)
+// - bootheat.ingest.mode=wal 이면 OrderIngestService(WAL 적재)로 보냄
+//   아직 DB 에 없는 키(반영 대기)는 ingest 가 확인 → DB 조회도 ingest.submit 에서 (WAL 재생과 원자적으로)
+@Service
+public class OrderSubmissionService {
+
+    static final int MAX_KEY_LENGTH = 100;
+    private static final int STRIPES = 64;
+
+    private final OrderService orderService;
+    private final CustomerOrderRepository orderRepo;
+    private final OrderIngestService ingest;    // WAL 모드가 아니면 null
+    private final ExpiringLruCache<String, OrderCreatedResponse> responses;
+    // synchronized 대신 ReentrantLock: 잡은 채로 DB 를 기다려도 가상 스레드가 캐리어 스레드를 붙잡지 않음
+    // 키마다 락을 만들고 지우면 대기 중인 스레드가 있는데 새 락이 생길 수 있음 → 고정 개수 스트라이프
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    public OrderSubmissionService(OrderService orderService,
+                                  CustomerOrderRepository orderRepo,
+                                  int maxEntries,
+                                  Duration ttl) {
+        this(orderService, orderRepo, null, maxEntries, ttl);
+    }
+
+    @Autowired
+    public OrderSubmissionService(OrderService orderService,
+                                  CustomerOrderRepository orderRepo,
+                                  ObjectProvider<OrderIngestService> ingest,
+                                  @Value("${bootheat.idempotency.max-entries:10000}") int maxEntries,
+                                  @Value("${bootheat.idempotency.ttl:PT30M}") Duration ttl) {
+        this.orderService = orderService;
+        this.orderRepo = orderRepo;
+        this.ingest = (ingest == null) ? null : ingest.getIfAvailable();
+        this.responses = new ExpiringLruCache<>(maxEntries, ttl);
+        for (int i = 0; i < STRIPES; i++) locks[i] = new ReentrantLock();
+    }
+
+    public OrderCreatedResponse submit(CreateOrderRequest req, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) return create(req, null);
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) throw new IllegalArgumentException("INVALID_IDEMPOTENCY_KEY");
+
+        var cached = responses.get(idempotencyKey);
+        if (cached != null) return cached;
+
+        ReentrantLock lock = locks[Math.floorMod(idempotencyKey.hashCode(), STRIPES)];
+        lock.lock();
+        try {
+            cached = responses.get(idempotencyKey);
+            if (cached != null) return cached;
+
+            var res = (ingest != null)
+                    ? ingest.submit(req, idempotencyKey)
+                    : orderRepo.findByIdempotencyKey(idempotencyKey).map(OrderSubmissionService::toResponse)
+                            .orElseGet(() -> create(req, idempotencyKey));
+            responses.put(idempotencyKey, res);
+            return res;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private OrderCreatedResponse create(CreateOrderRequest req, String key) {
+        if (ingest != null) return ingest.submit(req, key);
+        try {
+            return orderService.createOrder(req, key);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키가 먼저 커밋됨 → 그 주문의 응답 (다른 제약 위반이면 그대로 전파)
+            return orderRepo.findByIdempotencyKey(key).map(OrderSubmissionService::toResponse)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    // OrderService.createOrder 응답과 같은 모양 (OrderIngestService 도 사용)
+    static OrderCreatedResponse toResponse(CustomerOrder o) {
+        return new OrderCreatedResponse(
+                o.getOrderId(),
+                o.getOrderCode(),
+                "PENDDING",                      // 의도적 철자 (프론트 계약)
+                o.getTotalAmount(),
+                o.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant()
+        );
+    }
+}
@@ -1,18 +1,26 @@
 package com.example.bootheat.service;
 
 import com.example.bootheat.domain.BoothTable;
+import com.example.bootheat.domain.CustomerOrder;
+import com.example.bootheat.domain.PaymentInfo;
 import com.example.bootheat.domain.TableVisit;
+import com.example.bootheat.dto.CursorPage;
 import com.example.bootheat.dto.OrderDetailManagerResponse;
 import com.example.bootheat.dto.TableContextResponse;
 import com.example.bootheat.dto.TableInfoResponse;
 import com.example.bootheat.repository.*;
+import com.example.bootheat.support.OrderCursor;
 import com.example.bootheat.support.Status;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +32,11 @@ public class QueryService {
     private final CustomerOrderRepository orderRepo;
     private final PaymentInfoRepository paymentRepo;
     private final OrderItemRepository orderItemRepo;
+    private final OpenVisitRegistry openVisits;
+
+    // 테이블 주문 페이지 크기
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
 
     public TableInfoResponse getTableInfo(Long boothId, Integer tableNo) {
         var table = tableRepo.findByBooth_BoothIdAndTableNumber(boothId, tableNo)
@@ -45,22 +58,17 @@ public class QueryService {
         BoothTable table = tableRepo.findByBooth_BoothIdAndTableNumber(boothId, tableNo)
                 .orElseThrow(() -> new IllegalArgumentException("TABLE_NOT_FOUND"));
 
-        // 현재 OPEN visit (없을 수 있음)
-        TableVisit v = visitRepo
-                .findFirstByTable_TableIdAndStatusOrderByStartedAtDesc(table.getTableId(), Status.OPEN)
+        // 현재 OPEN visit (없을 수 있음) — 레지스트리에서 바로
+        TableContextResponse.Visit visitDto = openVisits.find(table.getTableId())
+                .map(v -> new TableContextResponse.Visit(
+                        v.visitId(),
+                        v.visitNo(),
+                        Status.OPEN,
+                        v.startedAt().atZone(ZoneId.systemDefault()).toInstant(),
+                        null
+                ))
                 .orElse(null);
 
-        TableContextResponse.Visit visitDto = null;
-        if (v != null) {
-            visitDto = new TableContextResponse.Visit(
-                    v.getVisitId(),
-                    v.getVisitNo(),
-                    v.getStatus(),
-                    v.getStartedAt().atZone(ZoneId.systemDefault()).toInstant(),
-                    v.getClosedAt() == null ? null : v.getClosedAt().atZone(ZoneId.systemDefault()).toInstant()
-            );
-        }
-
         var rows = orderRepo.findTop10ByTable_TableIdOrderByCreatedAtDesc(table.getTableId())
                 .stream()
                 .map(o -> new TableContextResponse.OrderRow(
@@ -79,18 +87,18 @@ public class QueryService {
 
     @Transactional(readOnly = true)
     public List<TableContextResponse.OrderRow> getLatestVisitOrders(Long tableId) {
-        // 1) OPEN 방문 우선, 없으면 startedAt 기준 최신 방문
-        var visit = visitRepo
-                .findFirstByTable_TableIdAndStatusOrderByStartedAtDesc(tableId, Status.OPEN)
-                .orElseGet(() -> visitRepo.findTopByTable_TableIdOrderByStartedAtDesc(tableId).orElse(null));
+        // 1) OPEN 방문 우선(레지스트리), 없으면 startedAt 기준 최신 방문
+        Long visitId = openVisits.find(tableId).map(OpenVisitRegistry.OpenVisit::visitId)
+                .orElseGet(() -> visitRepo.findTopByTable_TableIdOrderByStartedAtDesc(tableId)
+                        .map(TableVisit::getVisitId).orElse(null));
 
-        if (visit == null) {
+        if (visitId == null) {
             // 방문 자체가 한 번도 없으면 빈 배열 반환
             return java.util.List.of();
         }
 
         var zone = ZoneId.systemDefault();
-        return orderRepo.findByVisit_VisitIdOrderByCreatedAtDesc(visit.getVisitId())
+        return orderRepo.findByVisit_VisitIdOrderByCreatedAtDesc(visitId)
                 .stream()
                 .map(o -> new TableContextResponse.OrderRow(
                         o.getOrderId(),
@@ -104,18 +112,24 @@ public class QueryService {
                 .toList();
     }
 
+    // 테이블 주문 키셋 페이지 (최신순). limit 이 없으면 DEFAULT_PAGE_SIZE — 전체 이력을 한 번에 주지 않음
     @Transactional(readOnly = true)
-    public List<TableContextResponse.OrderRow> getTableOrders(Long boothId, Long tableId) {
+    public CursorPage<TableContextResponse.OrderRow> getTableOrders(Long boothId, Long tableId,
+                                                                    String before, Integer limit) {
         // 테이블 소속 검증
-        var table = tableRepo.findById(tableId)
-                .orElseThrow(() -> new IllegalArgumentException("TABLE_NOT_FOUND"));
-        if (!table.getBooth().getBoothId().equals(boothId)) {
-            throw new IllegalArgumentException("BOOTH_TABLE_MISMATCH");
-        }
+        checkTable(boothId, tableId);
+
+        var cursor = OrderCursor.parse(before);
+        int size = pageSize(limit);
+        var fetched = (cursor == null)
+                ? orderRepo.findPageByBoothAndTable(boothId, tableId, Limit.of(size + 1))
+                : orderRepo.findPageByBoothAndTableBefore(boothId, tableId,
+                        cursor.createdAt(), cursor.orderId(), Limit.of(size + 1));
+        var orders = fetched.size() > size ? fetched.subList(0, size) : fetched;
+        String next = fetched.size() > size ? cursorOf(orders.get(size - 1)) : null;
 
         var zone = ZoneId.systemDefault();
-        return orderRepo.findByBooth_BoothIdAndTable_TableIdOrderByCreatedAtDesc(boothId, tableId)
-                .stream()
+        var rows = orders.stream()
                 .map(o -> new TableContextResponse.OrderRow(
                         o.getOrderId(),
                         o.getOrderCode(),
@@ -126,6 +140,7 @@ public class QueryService {
                         o.getVisit().getVisitId()
                 ))
                 .toList();
+        return new CursorPage<>(rows, next);
     }
 
     // service/QueryService.java (메서드 추가)
@@ -158,22 +173,36 @@ public class QueryService {
         return new OrderDetailManagerResponse(co, items, pay);
     }
 
+    // 테이블 주문 상세 키셋 페이지 (최신순). limit 이 없으면 DEFAULT_PAGE_SIZE
+    // 페이지 크기와 무관하게 쿼리 3회 (테이블 검증 / 주문+결제 / 라인)
     @Transactional(readOnly = true)
-    public List<OrderDetailManagerResponse> getTableOrderDetails(Long boothId, Long tableId) {
-        var table = tableRepo.findById(tableId)
-                .orElseThrow(() -> new IllegalArgumentException("TABLE_NOT_FOUND"));
-        if (!table.getBooth().getBoothId().equals(boothId))
-            throw new IllegalArgumentException("BOOTH_TABLE_MISMATCH");
+    public CursorPage<OrderDetailManagerResponse> getTableOrderDetails(Long boothId, Long tableId,
+                                                                       String before, Integer limit) {
+        checkTable(boothId, tableId);
+
+        var cursor = OrderCursor.parse(before);
+        int size = pageSize(limit);
+        var fetched = (cursor == null)
+                ? orderRepo.findWithPaymentPage(boothId, tableId, Limit.of(size + 1))
+                : orderRepo.findWithPaymentPageBefore(boothId, tableId,
+                        cursor.createdAt(), cursor.orderId(), Limit.of(size + 1));
+        var rows = fetched.size() > size ? fetched.subList(0, size) : fetched;
+        String next = fetched.size() > size ? cursorOf((CustomerOrder) rows.get(size - 1)[0]) : null;
+        if (rows.isEmpty()) return new CursorPage<>(List.of(), null);
+
+        List<Long> orderIds = rows.stream().map(r -> ((CustomerOrder) r[0]).getOrderId()).toList();
+        Map<Long, List<OrderDetailManagerResponse.OrderItemRow>> itemsByOrderId = new HashMap<>();
+        for (Object[] r : orderItemRepo.findItemRowsByOrderIds(orderIds)) {
+            itemsByOrderId.computeIfAbsent((Long) r[0], k -> new ArrayList<>())
+                    .add(new OrderDetailManagerResponse.OrderItemRow((String) r[1], (Integer) r[2]));
+        }
 
-        return orderRepo.findByBooth_BoothIdAndTable_TableIdOrderByCreatedAtDesc(boothId, tableId)
-                .stream()
-                .map(o -> {
-                    var items = orderItemRepo.findByOrder_OrderId(o.getOrderId()).stream()
-                            .map(i -> new OrderDetailManagerResponse.OrderItemRow(
-                                    i.getMenuItem().getName(), i.getQuantity()))
-                            .toList();
-                    var p = paymentRepo.findByOrder_OrderId(o.getOrderId()).orElse(null);
-                    var zone = ZoneId.systemDefault();
+        var zone = ZoneId.systemDefault();
+        var details = rows.stream()
+                .map(r -> {
+                    var o = (CustomerOrder) r[0];
+                    var p = (PaymentInfo) r[1];
+                    // table/visit 은 id만 읽으므로 프록시 초기화 없음
                     var co = new OrderDetailManagerResponse.CustomerOrderData(
                             o.getOrderId(),
                             o.getTable().getTableId(),
@@ -186,7 +215,27 @@ public class QueryService {
                     );
                     var pay = (p == null) ? null
                             : new OrderDetailManagerResponse.PaymentInfoData(p.getPayerName(), p.getAmount());
-                    return new OrderDetailManagerResponse(co, items, pay);
+                    return new OrderDetailManagerResponse(
+                            co, itemsByOrderId.getOrDefault(o.getOrderId(), List.of()), pay);
                 }).toList();
+        return new CursorPage<>(details, next);
+    }
+
+    private void checkTable(Long boothId, Long tableId) {
+        var table = tableRepo.findById(tableId)
+                .orElseThrow(() -> new IllegalArgumentException("TABLE_NOT_FOUND"));
+        if (!table.getBooth().getBoothId().equals(boothId))
+            throw new IllegalArgumentException("BOOTH_TABLE_MISMATCH");
+    }
+
+    // limit 없이 before 만 오면 기본 크기
+    private static int pageSize(Integer limit) {
+        if (limit == null) return DEFAULT_PAGE_SIZE;
+        if (limit < 1 || limit > MAX_PAGE_SIZE) throw new IllegalArgumentException("INVALID_LIMIT");
+        return limit;
+    }
+
+    private static String cursorOf(CustomerOrder o) {
+        return new OrderCursor(o.getCreatedAt(), o.getOrderId()).encode();
     }
 }
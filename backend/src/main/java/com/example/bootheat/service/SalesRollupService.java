@@ -0,0 +1,222 @@
+package com.example.bootheat.service;
+
+import com.example.bootheat.domain.OrderItem;
+import com.example.bootheat.repository.BoothSalesRollupRepository;
+import com.example.bootheat.repository.CustomerOrderRepository;
+import com.example.bootheat.repository.MenuSalesRollupRepository;
+import com.example.bootheat.repository.OrderItemRepository;
+import com.example.bootheat.support.OrderChangedEvent;
+import com.example.bootheat.support.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+// service/SalesRollupService.java
+// 주문 생성/거절을 booth_sales_rollup, menu_sales_rollup 에 증분 반영 → StatsService는 집계 테이블만 조회
+// - 커밋된 이벤트만 큐에 쌓고, 단일 스케줄러 스레드가 모아서 한 트랜잭션으로 merge
+//   (주문 트랜잭션에 쓰기/락 경합을 추가하지 않음, 같은 키 동시 insert 충돌 없음)
+// - 기동 시 원본 주문에서 재집계 → 반영 전 종료돼도 값이 어긋나지 않음
+//   재집계 중에는 flush 를 막고, 큐에 있던 이벤트는 재집계와 같은 스냅샷(REPEATABLE READ)의 주문 상태와 비교해
+//   이미 들어간 것만 버림 (웹 서버가 먼저 떠 있어서 재집계 도중에도 주문이 커밋됨)
+// - 반영이 계속 실패하는 이벤트는 MAX_ATTEMPTS 번까지만 재시도하고 로그로 남긴 뒤 버림 (나머지 이벤트를 막지 않게)
+@Slf4j
+@Service
+public class SalesRollupService {
+
+    private final BoothSalesRollupRepository boothRollupRepo;
+    private final MenuSalesRollupRepository menuRollupRepo;
+    private final OrderItemRepository orderItemRepo;
+    private final CustomerOrderRepository orderRepo;
+    private final TransactionTemplate tx;
+    private final TransactionTemplate snapshotTx;   // 재집계 + 큐 판별을 한 스냅샷에서
+
+    static final int MAX_ATTEMPTS = 5;
+
+    private record Pending(OrderChangedEvent event, int attempts) {}
+
+    private final Queue<Pending> pending = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock applyLock = new ReentrantLock();   // flush ↔ rebuild 직렬화
+    private final AtomicLong dropped = new AtomicLong();
+
+    public SalesRollupService(BoothSalesRollupRepository boothRollupRepo,
+                              MenuSalesRollupRepository menuRollupRepo,
+                              OrderItemRepository orderItemRepo,
+                              CustomerOrderRepository orderRepo,
+                              PlatformTransactionManager txManager) {
+        this.boothRollupRepo = boothRollupRepo;
+        this.menuRollupRepo = menuRollupRepo;
+        this.orderItemRepo = orderItemRepo;
+        this.orderRepo = orderRepo;
+        this.tx = new TransactionTemplate(txManager);
+        this.snapshotTx = new TransactionTemplate(txManager);
+        this.snapshotTx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    private record BoothKey(Long boothId, LocalDate date, int hour) {}
+    private record MenuKey(Long boothId, LocalDate date, int hour, Long menuItemId) {}
+
+    @TransactionalEventListener
+    public void onOrderChanged(OrderChangedEvent e) {
+        if (sign(e) != 0) pending.add(new Pending(e, 0));
+    }
+
+    // 집계 반영 부호: 생성 +1, 거절 -1, 거절 → 대기 복귀 +1, 그 외 상태 변경 0
+    static int sign(OrderChangedEvent e) {
+        if (e.type() == OrderChangedEvent.Type.CREATED) return 1;
+        boolean wasRejected = Status.REJECTED.equals(e.previousStatus());
+        boolean isRejected = Status.REJECTED.equals(e.status());
+        if (!wasRejected && isRejected) return -1;
+        if (wasRejected && !isRejected) return 1;
+        return 0;
+    }
+
+    // 재시도 한도를 넘겨 버린 이벤트 수
+    public long droppedEvents() {
+        return dropped.get();
+    }
+
+    @Scheduled(fixedDelay = 200)
+    public void flush() {
+        if (pending.isEmpty()) return;
+        applyLock.lock();
+        try {
+            List<Pending> batch = drain();
+            if (batch.isEmpty() || tryApply(batch)) return;
+            if (batch.size() == 1) {
+                retryLater(batch.get(0));
+                return;
+            }
+            // 트랜잭션 전체가 롤백됨 → 한 건씩 다시 (실패하는 이벤트만 재시도 대상으로)
+            for (Pending p : batch) {
+                if (!tryApply(List.of(p))) retryLater(p);
+            }
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        applyLock.lock();
+        try {
+            snapshotTx.executeWithoutResult(st -> {
+                boothRollupRepo.deleteAllInBatch();
+                menuRollupRepo.deleteAllInBatch();
+                boothRollupRepo.rebuildFromOrders();
+                menuRollupRepo.rebuildFromOrders();
+                // 여기까지 도착한 이벤트는 커밋이 스냅샷보다 먼저일 수 있음 → 같은 스냅샷으로 판별
+                // (이후 도착분은 커밋 직후 리스너가 재집계 내내 지연된 경우만 겹침)
+                pending.addAll(notInSnapshot(drain()));
+            });
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    private List<Pending> drain() {
+        List<Pending> batch = new ArrayList<>();
+        for (Pending p; (p = pending.poll()) != null; ) batch.add(p);
+        return batch;
+    }
+
+    private boolean tryApply(List<Pending> batch) {
+        try {
+            tx.executeWithoutResult(st -> apply(batch.stream().map(Pending::event).toList()));
+            return true;
+        } catch (RuntimeException ex) {
+            log.warn("sales rollup flush failed ({} events)", batch.size(), ex);
+            return false;
+        }
+    }
+
+    private void retryLater(Pending p) {
+        if (p.attempts() + 1 < MAX_ATTEMPTS) {
+            pending.add(new Pending(p.event(), p.attempts() + 1));
+            return;
+        }
+        dropped.incrementAndGet();
+        log.error("sales rollup event dropped after {} attempts (rebuild on next start fixes totals): {}",
+                MAX_ATTEMPTS, p.event());
+    }
+
+    // 재집계 스냅샷에 없는 주문의 이벤트는 그대로 두고,
+    // 스냅샷에 있는 주문은 생성 이벤트는 버리고 상태 변경은 "스냅샷 상태 → 마지막 상태" 한 건으로 보정
+    private List<Pending> notInSnapshot(List<Pending> queued) {
+        if (queued.isEmpty()) return queued;
+        Map<Long, String> snapshot = new HashMap<>();
+        List<Long> ids = queued.stream().map(p -> p.event().orderId()).distinct().toList();
+        for (Object[] r : orderRepo.findStatusRows(ids)) snapshot.put(((Number) r[0]).longValue(), (String) r[1]);
+
+        List<Pending> kept = new ArrayList<>();
+        Map<Long, Pending> lastChange = new LinkedHashMap<>();
+        for (Pending p : queued) {
+            var e = p.event();
+            if (!snapshot.containsKey(e.orderId())) kept.add(p);
+            else if (e.type() == OrderChangedEvent.Type.STATUS_CHANGED) lastChange.put(e.orderId(), p);
+        }
+        lastChange.forEach((orderId, p) -> {
+            var adjusted = p.event().withPreviousStatus(snapshot.get(orderId));
+            if (sign(adjusted) != 0) kept.add(new Pending(adjusted, p.attempts()));
+        });
+        return kept;
+    }
+
+    private void apply(List<OrderChangedEvent> batch) {
+        // 상태 변경(거절/복귀)은 이벤트에 라인이 없으므로 한 번에 조회
+        List<Long> needLines = batch.stream()
+                .filter(e -> e.type() == OrderChangedEvent.Type.STATUS_CHANGED)
+                .map(OrderChangedEvent::orderId)
+                .toList();
+        Map<Long, List<OrderChangedEvent.Line>> linesByOrder = needLines.isEmpty() ? Map.of()
+                : orderItemRepo.findByOrder_OrderIdIn(needLines).stream()
+                .collect(Collectors.groupingBy(oi -> oi.getOrder().getOrderId(),
+                        Collectors.mapping(SalesRollupService::toLine, Collectors.toList())));
+
+        // 같은 키끼리 먼저 합쳐서 merge 횟수 최소화
+        Map<BoothKey, long[]> boothDeltas = new HashMap<>();   // [orders, amount]
+        Map<MenuKey, long[]> menuDeltas = new HashMap<>();     // [qty, amount, orders]
+        for (OrderChangedEvent e : batch) {
+            int s = sign(e);
+            LocalDate date = e.businessDate();
+            int hour = e.hourBucket();
+
+            long[] b = boothDeltas.computeIfAbsent(new BoothKey(e.boothId(), date, hour), k -> new long[2]);
+            b[0] += s;
+            b[1] += (long) s * e.totalAmount();
+
+            var lines = (e.type() == OrderChangedEvent.Type.CREATED)
+                    ? e.lines() : linesByOrder.getOrDefault(e.orderId(), List.of());
+            Set<Long> countedMenus = new HashSet<>();
+            for (var l : lines) {
+                long[] m = menuDeltas.computeIfAbsent(
+                        new MenuKey(e.boothId(), date, hour, l.menuItemId()), k -> new long[3]);
+                m[0] += (long) s * l.quantity();
+                m[1] += (long) s * l.quantity() * l.unitPrice();
+                if (countedMenus.add(l.menuItemId())) m[2] += s;  // 같은 메뉴 여러 줄이어도 주문 1건
+            }
+        }
+
+        boothDeltas.forEach((k, d) ->
+                boothRollupRepo.addDelta(k.boothId(), k.date(), k.hour(), d[0], d[1]));
+        menuDeltas.forEach((k, d) ->
+                menuRollupRepo.addDelta(k.boothId(), k.date(), k.hour(), k.menuItemId(), d[0], d[1], d[2]));
+    }
+
+    private static OrderChangedEvent.Line toLine(OrderItem oi) {
+        return new OrderChangedEvent.Line(oi.getMenuItem().getMenuItemId(), oi.getMenuItem().getName(),
+                oi.getQuantity(), oi.getUnitPrice());
+    }
+}
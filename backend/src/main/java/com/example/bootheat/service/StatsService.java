@@ -3,14 +3,18 @@ package com.example.bootheat.service;
 import com.example.bootheat.domain.CustomerOrder;
 import com.example.bootheat.domain.OrderItem;
 import com.example.bootheat.dto.*;
+import com.example.bootheat.repository.BoothSalesRollupRepository;
 import com.example.bootheat.repository.CustomerOrderRepository;
+import com.example.bootheat.repository.MenuSalesRollupRepository;
 import com.example.bootheat.repository.OrderItemRepository;
 import com.example.bootheat.repository.TableVisitRepository;
+import com.example.bootheat.support.BusinessClock;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -26,133 +30,120 @@ public class StatsService {
     private final CustomerOrderRepository orderRepo;
     private final OrderItemRepository orderItemRepo;
     private final TableVisitRepository tableVisitRepo;
-
-    private static class Range {
-        final LocalDate date;   // 예시: 2023-10-01
-        final LocalDateTime start;  // 예시: 2023-10-01T00:00
-        final LocalDateTime end;
-        Range(LocalDate date, ZoneId zone) {
-            this.date = date;
-            this.start = date.atStartOfDay();   // 예시: 2023-10-01T00:00
-            this.end = this.start.plusDays(1);
-        }
+    private final BoothSalesRollupRepository boothRollupRepo;   // 시간대별 주문수/매출 집계
+    private final MenuSalesRollupRepository menuRollupRepo;     // 시간대별 메뉴 판매 집계
+    private final BoothLoadMeter loadMeter;                     // 최근 N분 부하 + 오늘 시간대별 주문수 (메모리)
+    private final BusinessClock clock;                          // 영업일 (cutoff 이전 새벽은 전날)
+
+    // 오늘 영업일
+    private LocalDate today() {
+        return clock.today();
     }
 
-    // 오늘 날짜 범위 생성
-    private Range todayRange() {
-        var zone = ZoneId.systemDefault();  // 시스템 기본 시간대 사용
-        var date = LocalDate.now(zone); // 오늘 날짜 (예시: 2023-10-01)
-        return new Range(date, zone);
-    }
-
-    // 오늘 통계 조회
-    public TodayStatsResponse todayStats(Long boothId, int topN) {
-        var r = todayRange();
-
-        // 총 주문수/총액
-        Object[] sum = orderRepo.sumToday(boothId, r.start, r.end);
-        long totalOrders = (sum[0] == null) ? 0L : ((Number) sum[0]).longValue();
-        long totalAmount = (sum[1] == null) ? 0L : ((Number) sum[1]).longValue();
-
-        // 시간대별 → 피크아워
-        Integer peakHour = null;
-        var buckets = orderRepo.hourlyCounts(boothId, r.start, r.end);
-        if (!buckets.isEmpty()) {
-            peakHour = buckets.stream()
-                    .max(Comparator.comparingLong(o -> ((Number)o[1]).longValue()))
-                    .map(o -> ((Number) o[0]).intValue())
-                    .orElse(null);
-        }
-
-        // 메뉴 Top N (qty 기준 기본 정렬)
-        var rows = orderItemRepo.aggregateMenuToday(boothId, r.start, r.end);
-        List<MenuTopItem> all = rows.stream()
+    // 집계 테이블의 [menuItemId, name, qty, amount] → MenuTopItem (벤치마크에서 직접 호출하므로 package-private)
+    static List<MenuTopItem> toTopItems(List<Object[]> rows) {
+        return rows.stream()
                 .map(o -> new MenuTopItem(
                         ((Number)o[0]).longValue(),
                         (String) o[1],
                         ((Number)o[2]).longValue(),
                         ((Number)o[3]).longValue()
                 ))
-                .sorted(Comparator.comparingLong(MenuTopItem::qty).reversed()
-                        .thenComparingLong(MenuTopItem::amount).reversed())
                 .toList();
-        List<MenuTopItem> top = all.size() > topN ? all.subList(0, topN) : all;
+    }
 
-        return new TodayStatsResponse(boothId, r.date, totalOrders, totalAmount, peakHour, top);
+    // 시간대별 [hour, count] 중 최대 → 피크아워 (없으면 null)
+    static Integer peakHour(List<Object[]> buckets) {
+        return buckets.stream()
+                .filter(o -> ((Number)o[1]).longValue() > 0)
+                .max(Comparator.comparingLong(o -> ((Number)o[1]).longValue()))
+                .map(o -> ((Number) o[0]).intValue())
+                .orElse(null);
+    }
+
+    // 오늘 통계 조회
+    public TodayStatsResponse todayStats(Long boothId, int topN) {
+        return statsOn(boothId, today(), topN);
     }
 
     // 메뉴 판매 순위 조회
     // metric: "qty" 또는 "amount"
     public MenuRankingResponse ranking(Long boothId, String metric, int limit) {
-        var r = todayRange();
-        var rows = orderItemRepo.aggregateMenuToday(boothId, r.start, r.end);
+        var date = today();
         Comparator<MenuTopItem> cmp = "amount".equalsIgnoreCase(metric)
                 ? Comparator.comparingLong(MenuTopItem::amount).reversed()
                 : Comparator.comparingLong(MenuTopItem::qty).reversed();
 
-        List<MenuTopItem> all = rows.stream()
-                .map(o -> new MenuTopItem(
-                        ((Number)o[0]).longValue(),
-                        (String) o[1],
-                        ((Number)o[2]).longValue(),
-                        ((Number)o[3]).longValue()
-                ))
+        List<MenuTopItem> all = toTopItems(menuRollupRepo.aggregateMenuOn(boothId, date)).stream()
                 .sorted(cmp.thenComparing(MenuTopItem::name))
                 .toList();
 
         List<MenuTopItem> items = all.size() > limit ? all.subList(0, limit) : all;
-        return new MenuRankingResponse(boothId, r.date, metric, items);
+        return new MenuRankingResponse(boothId, date, metric, items);
     }
 
     // 날짜별 통계 조회
     @Transactional(readOnly = true)
     public TodayStatsResponse statsByDate(Long boothId, LocalDate date) {
-        var start = date.atStartOfDay();
-        var end = start.plusDays(1);
+        return statsOn(boothId, date, 5);
+    }
 
-        var r = todayRange();
-        var totals = orderRepo.sumBetween(boothId, r.start, r.end);
+    // 총 주문수/총액 + 피크아워 + 메뉴 Top N (qty 기준) — 모두 집계 테이블에서
+    private TodayStatsResponse statsOn(Long boothId, LocalDate date, int topN) {
+        var totals = boothRollupRepo.totalsOn(boothId, date);
         long totalOrders = (totals == null) ? 0L : totals.orders();
         long totalAmount = (totals == null) ? 0L : totals.sales();
 
-        var buckets = orderRepo.hourlyCountsBetween(boothId, r.start, r.end);
+        Integer peakHour = peakHour(hourlyCounts(boothId, date));
+
+        List<MenuTopItem> top = topItems(menuRollupRepo.aggregateMenuOn(boothId, date), topN);
+
+        return new TodayStatsResponse(boothId, date, totalOrders, totalAmount, peakHour, top);
+    }
 
-        Integer peakHour = null;
-        if (!buckets.isEmpty()) {
-            peakHour = buckets.stream()
-                    .max(java.util.Comparator.comparingLong(o -> ((Number)o[1]).longValue()))
-                    .map(o -> ((Number)o[0]).intValue())
-                    .orElse(null);
+    // 시간대별 [hour, count]. 오늘이면 기동 이후 시간대는 메모리 카운터에서 읽고,
+    // 기동 전(기동한 시간대 포함)만 집계 테이블 → 영업일 시작 전부터 떠 있던 서버는 SQL 없음
+    private List<Object[]> hourlyCounts(Long boothId, LocalDate date) {
+        if (!date.equals(today())) return boothRollupRepo.hourlyCountsOn(boothId, date);
+
+        long[] counts = loadMeter.hourlyOrders(boothId, date);
+        if (!loadMeter.isLive(date)) {
+            for (Object[] r : boothRollupRepo.hourlyCountsOn(boothId, date)) {
+                int hour = ((Number) r[0]).intValue();
+                if (!loadMeter.isLive(date, hour)) counts[hour] = ((Number) r[1]).longValue();
+            }
         }
+        List<Object[]> rows = new ArrayList<>(24);
+        for (int h = 0; h < 24; h++) rows.add(new Object[]{h, counts[h]});
+        return rows;
+    }
+
+    // 최근 5/15/60분 주문수·매출, 분당 처리량
+    public BoothLoadResponse currentLoad(Long boothId) {
+        return loadMeter.load(boothId, LocalDateTime.now(ZoneId.systemDefault()));
+    }
 
-        var rows = orderItemRepo.aggregateMenuBetween(boothId, start, end);
-        var all = rows.stream()
-                .map(o -> new MenuTopItem(((Number)o[0]).longValue(), (String)o[1],
-                        ((Number)o[2]).longValue(), ((Number)o[3]).longValue()))
-                .sorted(java.util.Comparator.comparingLong(MenuTopItem::qty).reversed()
+    // 메뉴 Top N (qty 기준)
+    static List<MenuTopItem> topItems(List<Object[]> rows, int topN) {
+        List<MenuTopItem> all = toTopItems(rows).stream()
+                .sorted(Comparator.comparingLong(MenuTopItem::qty).reversed()
                         .thenComparingLong(MenuTopItem::amount).reversed())
                 .toList();
-        var top = all.size()>5 ? all.subList(0,5) : all;
-        return new TodayStatsResponse(boothId, date, totalOrders, totalAmount, peakHour, top);
+        return all.size() > topN ? all.subList(0, topN) : all;
     }
 
     // 기능: 특정 부스의 메뉴 아이템 총 주문 수 조회
     @Transactional(readOnly = true)
     public long totalOrdersForMenu(Long boothId, Long menuItemId) {
-        return orderItemRepo.totalQtyByBoothAndMenu(boothId, menuItemId);
+        return menuRollupRepo.totalQtyByBoothAndMenu(boothId, menuItemId);
     }
 
     // 기능: 특정 부스의 메뉴 판매 통계 조회
     @Transactional(readOnly = true)
     public MenuRankingResponse menuSales(Long boothId, LocalDate date) {
-        var d = (date==null) ? java.time.LocalDate.now() : date;
-        var start = d.atStartOfDay();
-        var end = start.plusDays(1);
-        var rows = orderItemRepo.aggregateMenuBetween(boothId, start, end);
-        var items = rows.stream()
-                .map(o -> new MenuTopItem(((Number)o[0]).longValue(), (String)o[1],
-                        ((Number)o[2]).longValue(), ((Number)o[3]).longValue()))
-                .sorted(java.util.Comparator.comparingLong(MenuTopItem::qty).reversed()
+        var d = (date==null) ? today() : date;
+        var items = toTopItems(menuRollupRepo.aggregateMenuOn(boothId, d)).stream()
+                .sorted(Comparator.comparingLong(MenuTopItem::qty).reversed()
                         .thenComparing(MenuTopItem::name))
                 .toList();
         return new MenuRankingResponse(boothId, d, "qty", items);
@@ -161,10 +152,7 @@ public class StatsService {
     // 기능: 날짜별 통계 요약 조회
     @Transactional(readOnly = true)
     public StatsSummaryResponse statsSummaryByDate(Long boothId, LocalDate date) {
-        var start = date.atStartOfDay();
-        var end   = start.plusDays(1);
-
-        var totals = orderRepo.sumBetween(boothId, start, end); // StatsTotals
+        var totals = boothRollupRepo.totalsOn(boothId, date); // StatsTotals
         long orders = (totals == null) ? 0L : totals.orders();
         long sales  = (totals == null) ? 0L : totals.sales();
 
@@ -174,29 +162,17 @@ public class StatsService {
 
     // 기능: 특정 부스의 메뉴 판매 통계 조회 (메뉴별 판매량)
     @Transactional(readOnly = true)
-    public java.util.List<MenuSalesItem> menuSalesItems(Long boothId, java.time.LocalDate date) {
-        var d = (date==null) ? java.time.LocalDate.now() : date;
-        var start = d.atStartOfDay();
-        var end = start.plusDays(1);
-        var rows = orderItemRepo.aggregateMenuBetween(boothId, start, end);
-        return rows.stream()
-                .map(o -> new MenuSalesItem(
-                        ((Number)o[0]).longValue(),
-                        (String) o[1],
-                        ((Number)o[3]).longValue() // amount
-                ))
-                .sorted(java.util.Comparator.comparingLong(MenuSalesItem::totalSales).reversed())
+    public List<MenuSalesItem> menuSalesItems(Long boothId, LocalDate date) {
+        var d = (date==null) ? today() : date;
+        return toTopItems(menuRollupRepo.aggregateMenuOn(boothId, d)).stream()
+                .map(t -> new MenuSalesItem(t.menuItemId(), t.name(), t.amount()))
+                .sorted(Comparator.comparingLong(MenuSalesItem::totalSales).reversed())
                 .toList();
     }
 
     public Map<Long, List<OrderWithItemsDto>> allBoothsOrdersByDate(LocalDate date) {
-        // 날짜 범위: [start, end)
-        var start = date.atStartOfDay();
-        var end = start.plusDays(1);
-
-        // 모든 부스의 해당일 주문
-        List<CustomerOrder> orders = orderRepo
-                .findByCreatedAtGreaterThanEqualAndCreatedAtLessThanOrderByBooth_BoothIdAscCreatedAtAsc(start, end);
+        // 모든 부스의 해당 영업일 주문 (자정 넘긴 새벽 주문 포함)
+        List<CustomerOrder> orders = orderRepo.findByBusinessDateOrderByBooth_BoothIdAscCreatedAtAsc(date);
         if (orders.isEmpty()) return Collections.emptyMap();
 
         // 주문ID 모아 라인아이템 일괄 조회 (menuItem까지 fetch)
@@ -235,10 +211,7 @@ public class StatsService {
     }
 
     public AllBoothsSummaryResponse allBoothsSummaryByDate(LocalDate date) {
-        LocalDateTime start = date.atStartOfDay();
-        LocalDateTime end   = start.plusDays(1);
-
-        StatsTotals t = orderRepo.sumAllBetween(start, end);
+        StatsTotals t = boothRollupRepo.totalsAllOn(date);
         long orders = (t == null) ? 0L : t.orders();
         long sales  = (t == null) ? 0L : t.sales();
 
@@ -246,8 +219,9 @@ public class StatsService {
     }
 
     public List<Long> visitDurationsByDate(LocalDate date) {
-        var start = date.atStartOfDay();
-        var end   = start.plusDays(1);
+        // 방문에는 영업일 컬럼이 없으므로 영업일 시작~다음 영업일 시작 (서버 시각)
+        var start = clock.dayStart(date);
+        var end   = clock.dayStart(date.plusDays(1));
 
         var visits = tableVisitRepo.findClosedVisitsBetween(start, end);
         return visits.stream()
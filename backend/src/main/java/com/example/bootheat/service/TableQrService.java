@@ -0,0 +1,161 @@
+package com.example.bootheat.service;
+
+import com.example.bootheat.repository.BoothRepository;
+import com.example.bootheat.repository.BoothTableRepository;
+import com.example.bootheat.support.ByteLruCache;
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// service/TableQrService.java
+// 테이블 QR(PNG) 생성: {baseUrl}/booths/{boothId}/tables/{tableNo}/menu
+// - 렌더링 결과는 (부스, 테이블, 크기, baseUrl) 키로 바이트 상한 LRU 캐시 → 재출력 시 다시 인코딩하지 않음
+// - 1비트 흑백 PNG 로 직접 그림 (MatrixToImageWriter 의 RGB 이미지보다 작고 빠름)
+// - 부스 전체 ZIP: 캐시에 없는 것만 병렬 렌더링 후 순서대로 STORED(재압축 없음) 엔트리로 스트리밍
+@Service
+public class TableQrService {
+
+    static final int MIN_SIZE = 64;
+    static final int MAX_SIZE = 2048;
+
+    private static final Map<EncodeHintType, Object> HINTS = Map.of(
+            EncodeHintType.MARGIN, 1,
+            EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.M);
+
+    private record QrKey(Long boothId, Integer tableNo, int size, String baseUrl) {}
+
+    private final BoothRepository boothRepo;
+    private final BoothTableRepository tableRepo;
+    private final String defaultBaseUrl;
+    private final int defaultSize;
+    private final ByteLruCache<QrKey> cache;
+
+    public TableQrService(BoothRepository boothRepo,
+                          BoothTableRepository tableRepo,
+                          @Value("${bootheat.qr.base-url:https://bootheat.vercel.app}") String defaultBaseUrl,
+                          @Value("${bootheat.qr.default-size:300}") int defaultSize,
+                          @Value("${bootheat.qr.cache-max-bytes:33554432}") long cacheMaxBytes) {
+        this.boothRepo = boothRepo;
+        this.tableRepo = tableRepo;
+        this.defaultBaseUrl = defaultBaseUrl;
+        this.defaultSize = defaultSize;
+        this.cache = new ByteLruCache<>(cacheMaxBytes);
+    }
+
+    public byte[] tablePng(Long boothId, Integer tableNo, Integer size, String baseUrl) {
+        QrKey key = key(boothId, tableNo, size, baseUrl);
+        byte[] png = cache.get(key);
+        if (png != null) return png;      // 테이블은 삭제되지 않으므로 캐시에 있으면 존재 확인 생략
+
+        if (!tableRepo.existsByBooth_BoothIdAndTableNumber(boothId, tableNo))
+            throw new IllegalArgumentException(boothRepo.existsById(boothId) ? "TABLE_NOT_FOUND" : "BOOTH_NOT_FOUND");
+        return render(key);
+    }
+
+    public interface ZipWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    // 부스의 모든 테이블 QR 을 ZIP 으로 (파일명 booth-{b}-table-{t}.png)
+    // 검증(부스/크기/baseUrl)은 여기서 끝내고, 응답 헤더가 나간 뒤에는 쓰기만
+    public ZipWriter boothZip(Long boothId, Integer size, String baseUrl) {
+        var tables = tableRepo.findByBooth_BoothIdOrderByTableNumberAsc(boothId);
+        if (tables.isEmpty() && !boothRepo.existsById(boothId)) throw new IllegalArgumentException("BOOTH_NOT_FOUND");
+        List<QrKey> keys = tables.stream().map(t -> key(boothId, t.getTableNumber(), size, baseUrl)).toList();
+        if (keys.isEmpty()) key(boothId, 0, size, baseUrl);   // 테이블이 없어도 파라미터 검증
+        return out -> writeZip(keys, out);
+    }
+
+    private void writeZip(List<QrKey> keys, OutputStream out) throws IOException {
+        List<byte[]> pngs = keys.parallelStream()
+                .map(k -> {
+                    byte[] png = cache.get(k);
+                    return png != null ? png : render(k);
+                })
+                .toList();
+
+        ZipOutputStream zip = new ZipOutputStream(out);
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] png = pngs.get(i);
+            crc.reset();
+            crc.update(png);
+            ZipEntry entry = new ZipEntry(fileName(keys.get(i)));
+            entry.setMethod(ZipEntry.STORED);   // PNG 는 이미 압축됨
+            entry.setSize(png.length);
+            entry.setCompressedSize(png.length);
+            entry.setCrc(crc.getValue());
+            zip.putNextEntry(entry);
+            zip.write(png);
+            zip.closeEntry();
+        }
+        zip.finish();
+    }
+
+    public String menuUrl(Long boothId, Integer tableNo, String baseUrl) {
+        return baseUrl(baseUrl) + "/booths/" + boothId + "/tables/" + tableNo + "/menu";
+    }
+
+    private QrKey key(Long boothId, Integer tableNo, Integer size, String baseUrl) {
+        int px = (size == null) ? defaultSize : size;
+        if (px < MIN_SIZE || px > MAX_SIZE) throw new IllegalArgumentException("INVALID_QR_SIZE");
+        return new QrKey(boothId, tableNo, px, baseUrl(baseUrl));
+    }
+
+    private String baseUrl(String baseUrl) {
+        String url = (baseUrl == null || baseUrl.isBlank()) ? defaultBaseUrl : baseUrl.strip();
+        if (!url.startsWith("https://") && !url.startsWith("http://")) throw new IllegalArgumentException("INVALID_BASE_URL");
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private static String fileName(QrKey k) {
+        return "booth-" + k.boothId() + "-table-" + k.tableNo() + ".png";
+    }
+
+    private byte[] render(QrKey k) {
+        try {
+            BitMatrix matrix = new QRCodeWriter().encode(
+                    menuUrl(k.boothId(), k.tableNo(), k.baseUrl()), BarcodeFormat.QR_CODE, k.size(), k.size(), HINTS);
+            var out = new ByteArrayOutputStream(2048);
+            ImageIO.write(toBinaryImage(matrix), "png", out);
+            byte[] png = out.toByteArray();
+            cache.put(k, png);
+            return png;
+        } catch (WriterException e) {
+            throw new IllegalStateException("QR_ENCODE_FAILED", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 1비트 팔레트 이미지 (0 = 검정, 1 = 흰색)
+    private static BufferedImage toBinaryImage(BitMatrix matrix) {
+        int w = matrix.getWidth(), h = matrix.getHeight();
+        var image = new BufferedImage(w, h, BufferedImage.TYPE_BYTE_BINARY);
+        WritableRaster raster = image.getRaster();
+        int[] row = new int[w];
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) row[x] = matrix.get(x, y) ? 0 : 1;
+            raster.setSamples(0, y, w, 1, 0, row);
+        }
+        return image;
+    }
+}
@@ -6,8 +6,6 @@ import com.example.bootheat.dto.TableDto;
 import com.example.bootheat.dto.TableListItem;
 import com.example.bootheat.repository.BoothRepository;
 import com.example.bootheat.repository.BoothTableRepository;
-import com.example.bootheat.repository.TableVisitRepository;
-import com.example.bootheat.support.Status;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,7 +18,7 @@ import java.util.List;
 public class TableService {
     private final BoothRepository boothRepo;
     private final BoothTableRepository tableRepo;
-    private final TableVisitRepository visitRepo;
+    private final OpenVisitRegistry openVisits;
 
     public TableDto create(Long boothId, CreateTableRequest req) {
         var booth = boothRepo.findById(boothId)
@@ -43,11 +41,12 @@ public class TableService {
                 .toList();
     }
 
+    // 테이블 현황판: 테이블 목록 쿼리 1회 + OPEN 여부는 레지스트리에서
     @Transactional(readOnly = true)
     public List<TableListItem> listWithVisitStatus(Long boothId) {
         var tables = tableRepo.findByBooth_BoothIdOrderByTableNumberAsc(boothId);
         return tables.stream().map(t -> {
-            boolean open = visitRepo.existsByTable_TableIdAndStatus(t.getTableId(), Status.OPEN);
+            boolean open = openVisits.isOpen(t.getTableId());
             return new TableListItem(
                     t.getTableId(),
                     t.getTableNumber(),
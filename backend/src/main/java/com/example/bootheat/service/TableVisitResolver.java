@@ -0,0 +1,81 @@
+package com.example.bootheat.service;
+
+import com.example.bootheat.domain.BoothTable;
+import com.example.bootheat.domain.TableVisit;
+import com.example.bootheat.repository.TableVisitRepository;
+import com.example.bootheat.support.Status;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// service/TableVisitResolver.java
+// 테이블의 OPEN visit 재사용 or 생성 (같은 테이블 동시 주문에서 OPEN visit 이 둘 생기지 않도록)
+// - OPEN visit 이 있으면 락 없이 재사용 (대부분의 주문, OpenVisitRegistry 에서 바로)
+// - 없을 때만 테이블별 스트라이프 락을 잡고 다시 확인 후 생성, 락은 커밋/롤백 후 해제
+//   → 뒤에 온 트랜잭션은 앞 트랜잭션이 커밋한 visit 을 보고 재사용
+// - 다중 인스턴스 대비 (table_id, visit_no) 유니크 제약이 최종 방어선
+@Service
+public class TableVisitResolver {
+
+    private static final int STRIPES = 64;
+    private static final long LOCK_TIMEOUT_MS = 3_000;
+
+    private final TableVisitRepository visitRepo;
+    private final OpenVisitRegistry registry;
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    public TableVisitResolver(TableVisitRepository visitRepo, OpenVisitRegistry registry) {
+        this.visitRepo = visitRepo;
+        this.registry = registry;
+        for (int i = 0; i < STRIPES; i++) locks[i] = new ReentrantLock();
+    }
+
+    // 트랜잭션 안에서 호출해야 함 (락이 커밋까지 유지됨)
+    public TableVisit resolveOpenVisit(BoothTable table) {
+        Long tableId = table.getTableId();
+        // 레지스트리에 있으면 쿼리 없이 프록시만 (주문에는 visit_id 만 필요)
+        var open = registry.find(tableId);
+        if (open.isPresent()) return visitRepo.getReferenceById(open.get().visitId());
+
+        lockUntilCompletion(tableId);
+        // 락 안에서는 DB 기준으로 다시 확인 (레지스트리가 어긋나 있어도 OPEN visit 이 둘 생기지 않게)
+        var visit = visitRepo.findFirstByTable_TableIdAndStatusOrderByStartedAtDesc(tableId, Status.OPEN)
+                .orElseGet(() -> {
+                    int nextNo = visitRepo.findTopByTable_TableIdOrderByVisitNoDesc(tableId)
+                            .map(v -> v.getVisitNo() + 1).orElse(1);
+                    return visitRepo.save(TableVisit.builder()
+                            .table(table).visitNo(nextNo).status(Status.OPEN).build());
+                });
+        registry.opened(tableId, visit);
+        return visit;
+    }
+
+    // visit 종료도 같은 락으로 생성과 직렬화
+    // 해제는 트랜잭션 종료 시점이므로 트랜잭션 밖에서는 락을 잡지 않고 거절 (잡으면 영영 풀리지 않음)
+    public void lockUntilCompletion(Long tableId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+            throw new IllegalStateException("TRANSACTION_REQUIRED");
+        ReentrantLock lock = locks[Math.floorMod(tableId.hashCode(), STRIPES)];
+        try {
+            if (!lock.tryLock(LOCK_TIMEOUT_MS, TimeUnit.MILLISECONDS))
+                throw new IllegalStateException("TABLE_BUSY");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("TABLE_BUSY");
+        }
+        try {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lock.unlock();
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.unlock();
+            throw e;
+        }
+    }
+}
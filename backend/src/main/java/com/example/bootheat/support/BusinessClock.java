@@ -0,0 +1,68 @@
+package com.example.bootheat.support;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+// support/BusinessClock.java
+// 영업일/시간 버킷 계산 (주문 insert 시 customer_order.business_date, hour_bucket 으로 저장)
+// - 영업일: 영업 시간대(bootheat.business.zone) 시각에서 마감 시각(bootheat.business.day-cutoff)을 뺀 날짜
+//   예) cutoff 06:00 → 새벽 1시 주문은 전날 영업일
+// - 시간 버킷: 영업 시간대의 시(0~23). 한 영업일 안에서는 cutoff 시 ~ 23시, 0시 ~ cutoff-1 시 순서
+// 엔티티 시각(createdAt 등)은 서버 기본 시간대의 LocalDateTime 이므로 변환해서 계산
+@Component
+public class BusinessClock {
+
+    private final ZoneId serverZone = ZoneId.systemDefault();
+    private final ZoneId zone;
+    private final int cutoffHour;
+
+    public BusinessClock(@Value("${bootheat.business.zone:}") String zone,
+                         @Value("${bootheat.business.day-cutoff:00:00}") String dayCutoff) {
+        this.zone = zone.isBlank() ? serverZone : ZoneId.of(zone.trim());
+        LocalTime cutoff = LocalTime.parse(dayCutoff.trim());
+        // 시간 버킷 단위로 영업일이 나뉘어야 집계 행(영업일, 시)이 두 날짜에 걸치지 않음
+        if (cutoff.getMinute() != 0 || cutoff.getSecond() != 0 || cutoff.getNano() != 0)
+            throw new IllegalArgumentException("DAY_CUTOFF_NOT_ON_THE_HOUR");
+        this.cutoffHour = cutoff.getHour();
+    }
+
+    public LocalDate businessDate(LocalDateTime serverTime) {
+        return local(serverTime).minusHours(cutoffHour).toLocalDate();
+    }
+
+    public int hourBucket(LocalDateTime serverTime) {
+        return local(serverTime).getHour();
+    }
+
+    // 지금 영업일
+    public LocalDate today() {
+        return businessDate(LocalDateTime.now(serverZone));
+    }
+
+    // 영업일 date 의 hour 버킷이 시작하는 시각 (서버 시각)
+    public LocalDateTime hourStart(LocalDate date, int hour) {
+        LocalDateTime t = date.atTime(hour, 0);
+        if (hour < cutoffHour) t = t.plusDays(1);
+        return toServer(t);
+    }
+
+    // 영업일 date 시작 시각 (서버 시각). [dayStart(d), dayStart(d + 1)) 가 그 영업일
+    public LocalDateTime dayStart(LocalDate date) {
+        return hourStart(date, cutoffHour);
+    }
+
+    private LocalDateTime local(LocalDateTime serverTime) {
+        if (zone.equals(serverZone)) return serverTime;
+        return serverTime.atZone(serverZone).withZoneSameInstant(zone).toLocalDateTime();
+    }
+
+    private LocalDateTime toServer(LocalDateTime businessTime) {
+        if (zone.equals(serverZone)) return businessTime;
+        return businessTime.atZone(zone).withZoneSameInstant(serverZone).toLocalDateTime();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.bootheat.support;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 총 바이트 수로 크기를 제한하는 byte[] 캐시 (접근 순서 LRU). 넘치면 가장 오래 안 쓴 항목부터 제거
+// 동시 접근은 메서드 단위 synchronized — 값 생성(렌더링)은 호출 쪽에서 락 밖에서 함
+public class ByteLruCache<K> {
+
+    private final long maxBytes;
+    private final LinkedHashMap<K, byte[]> map = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    public ByteLruCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public synchronized byte[] get(K key) {
+        return map.get(key);
+    }
+
+    // 한 항목이 상한보다 크면 저장하지 않음
+    public synchronized void put(K key, byte[] value) {
+        if (value.length > maxBytes) return;
+        byte[] prev = map.put(key, value);
+        if (prev != null) bytes -= prev.length;
+        bytes += value.length;
+        for (Iterator<Map.Entry<K, byte[]>> it = map.entrySet().iterator(); bytes > maxBytes && it.hasNext(); ) {
+            bytes -= it.next().getValue().length;
+            it.remove();
+        }
+    }
+
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+}
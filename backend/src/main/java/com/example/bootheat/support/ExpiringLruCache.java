@@ -0,0 +1,52 @@
+package com.example.bootheat.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 크기 제한 + 만료 캐시 (접근 순서 LRU). 최대 개수를 넘으면 가장 오래 안 쓴 항목부터 제거
+// 동시 접근은 메서드 단위 synchronized — 항목 수가 작고 연산이 O(1) 이라 경합이 짧음
+public class ExpiringLruCache<K, V> {
+
+    private record Entry<V>(V value, Instant expiresAt) {}
+
+    private final Duration ttl;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> map;
+
+    public ExpiringLruCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, Clock.systemUTC());
+    }
+
+    public ExpiringLruCache(int maxEntries, Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    // 없거나 만료되었으면 null
+    public synchronized V get(K key) {
+        Entry<V> e = map.get(key);
+        if (e == null) return null;
+        if (!clock.instant().isBefore(e.expiresAt())) {
+            map.remove(key);
+            return null;
+        }
+        return e.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        map.put(key, new Entry<>(value, clock.instant().plus(ttl)));
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.bootheat.support;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 파일 ↔ HTTP 본문 스트리밍 (파일 전체를 힙에 올리지 않음)
+// - receive: 업로드 본문을 파일로 흘려 쓰면서 SHA-256 계산, 상한을 넘으면 중단
+// - send: Tomcat sendfile 이 켜져 있으면 커널이 소켓으로 직접 보냄(본문을 쓰지 않고 요청 속성만 설정),
+//         아니면(TLS, 테스트 등) FileChannel.transferTo 로 응답 채널에 전송
+public final class FileTransfer {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private FileTransfer() {}
+
+    // 반환값: 내용의 SHA-256 (hex)
+    public static String receive(InputStream in, Path target, long maxBytes) throws IOException {
+        MessageDigest sha = sha256();
+        byte[] buf = new byte[64 * 1024];
+        long total = 0;
+        try (OutputStream out = Files.newOutputStream(target)) {
+            for (int n; (n = in.read(buf)) != -1; ) {
+                total += n;
+                if (total > maxBytes) throw new IllegalArgumentException("FILE_TOO_LARGE");
+                sha.update(buf, 0, n);
+                out.write(buf, 0, n);
+            }
+        }
+        if (total == 0) throw new IllegalArgumentException("EMPTY_FILE");
+        return HexFormat.of().formatHex(sha.digest());
+    }
+
+    // [start, start + count) 구간 전송. 상태 코드/헤더는 호출 쪽에서 먼저 설정
+    public static void send(Path file, long start, long count,
+                            HttpServletRequest req, HttpServletResponse res) throws IOException {
+        res.setContentLengthLong(count);
+        if (count == 0) return;
+        if (Boolean.TRUE.equals(req.getAttribute(SENDFILE_SUPPORT))) {
+            req.setAttribute(SENDFILE_FILENAME, file.toRealPath().toString());
+            req.setAttribute(SENDFILE_START, start);
+            req.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(res.getOutputStream());
+            long pos = start, end = start + count;
+            while (pos < end) {
+                long n = ch.transferTo(pos, end - pos, out);
+                if (n <= 0) throw new EOFException(file.toString());   // 전송 중 파일이 줄어듦
+                pos += n;
+            }
+        }
+    }
+
+    // If-None-Match 비교 (약한 비교: W/ 무시, * 는 모두 일치)
+    public static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String tag : ifNoneMatch.split(",")) {
+            String t = tag.trim();
+            if (t.startsWith("W/")) t = t.substring(2);
+            if (t.equals("*") || t.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.bootheat.support;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// support/LatencyHistogram.java
+// 락 없는 지연시간 히스토그램 (µs 단위, 로그-선형 버킷: 2의 거듭제곱 구간을 8칸으로 → 오차 12.5% 이내)
+// 기록은 버킷 카운터 increment 한 번, 분위수는 조회할 때만 계산
+public class LatencyHistogram {
+
+    private static final int LINEAR = 16;        // 0~15µs 는 1µs 단위
+    private static final int SUB_BITS = 3;       // 구간당 8칸
+    private static final int MAX_EXP = 36;       // 2^36µs ≈ 19시간 (초과는 마지막 버킷)
+    private static final int BUCKETS = LINEAR + (MAX_EXP - 4 + 1) * (1 << SUB_BITS);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        counts.incrementAndGet(indexOf(micros));
+        count.increment();
+        sumMicros.add(micros);
+        maxMicros.accumulate(micros);
+    }
+
+    public long count() { return count.sum(); }
+
+    public double meanMillis() {
+        long n = count.sum();
+        return n == 0 ? 0 : sumMicros.sum() / 1000.0 / n;
+    }
+
+    public double maxMillis() { return maxMicros.get() / 1000.0; }
+
+    // p: 0~1, 해당 버킷의 상한값 (ms)
+    public double percentileMillis(double p) {
+        long[] snap = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) total += (snap[i] = counts.get(i));
+        if (total == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(p * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snap[i];
+            if (seen >= rank) return Math.min(upperBound(i), maxMicros.get()) / 1000.0;
+        }
+        return maxMillis();
+    }
+
+    static int indexOf(long micros) {
+        if (micros < LINEAR) return (int) micros;
+        int exp = 63 - Long.numberOfLeadingZeros(micros);          // >= 4
+        if (exp > MAX_EXP) return BUCKETS - 1;
+        int sub = (int) (micros >>> (exp - SUB_BITS)) & ((1 << SUB_BITS) - 1);
+        return LINEAR + (exp - 4) * (1 << SUB_BITS) + sub;
+    }
+
+    static long upperBound(int index) {
+        if (index < LINEAR) return index;
+        int exp = (index - LINEAR) / (1 << SUB_BITS) + 4;
+        int sub = (index - LINEAR) % (1 << SUB_BITS);
+        long width = 1L << (exp - SUB_BITS);
+        return ((1L << SUB_BITS) + sub) * width + width - 1;
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.bootheat.support;
+
+// MenuService가 메뉴 생성/수정/판매상태 변경/삭제 시 발행 (부스 메뉴 캐시 무효화용)
+public record MenuChangedEvent(Long boothId) {}
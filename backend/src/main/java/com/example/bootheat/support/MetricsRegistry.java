@@ -0,0 +1,95 @@
+package com.example.bootheat.support;
+
+import com.example.bootheat.dto.MetricsSnapshot;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Controller;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// support/MetricsRegistry.java
+// 메서드별 호출 수/에러 수/지연시간 분포/SQL 수 (TimeTraceAop 가 기록, /api/metrics 로 조회)
+@Component
+public class MetricsRegistry {
+
+    private final SqlCallCounter sqlCounter;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+    private volatile Instant since = Instant.now();
+
+    public MetricsRegistry(SqlCallCounter sqlCounter) {
+        this.sqlCounter = sqlCounter;
+    }
+
+    public static final class Timer {
+        final String name;
+        final String kind;                          // endpoint / service
+        final LongAdder calls = new LongAdder();    // 샘플링과 무관하게 전부
+        final LongAdder errors = new LongAdder();
+        final LongAdder sqlCalls = new LongAdder(); // 샘플된 호출에서만
+        final LatencyHistogram latency = new LatencyHistogram();
+
+        Timer(String name, String kind) {
+            this.name = name;
+            this.kind = kind;
+        }
+
+        public void count(boolean error) {
+            calls.increment();
+            if (error) errors.increment();
+        }
+
+        public void record(long nanos, long sql) {
+            latency.record(nanos);
+            sqlCalls.add(sql);
+        }
+    }
+
+    public Timer timer(Method method) {
+        Timer t = timers.get(method);
+        if (t != null) return t;
+        return timers.computeIfAbsent(method, m -> {
+            Class<?> type = m.getDeclaringClass();
+            String kind = AnnotatedElementUtils.hasAnnotation(type, Controller.class) ? "endpoint" : "service";
+            return new Timer(type.getSimpleName() + "." + m.getName(), kind);
+        });
+    }
+
+    public SqlCallCounter sqlCounter() { return sqlCounter; }
+
+    public void reset() {
+        timers.clear();
+        since = Instant.now();
+    }
+
+    public MetricsSnapshot snapshot() {
+        Instant from = since;
+        double seconds = Math.max(1, Duration.between(from, Instant.now()).toMillis()) / 1000.0;
+        var rows = timers.values().stream()
+                .map(t -> {
+                    long sampled = t.latency.count();
+                    return new MetricsSnapshot.TimerStat(
+                            t.name, t.kind,
+                            t.calls.sum(), t.errors.sum(), sampled,
+                            round(t.calls.sum() / seconds),
+                            round(t.latency.meanMillis()),
+                            round(t.latency.percentileMillis(0.50)),
+                            round(t.latency.percentileMillis(0.95)),
+                            round(t.latency.percentileMillis(0.99)),
+                            round(t.latency.maxMillis()),
+                            sampled == 0 ? 0 : round((double) t.sqlCalls.sum() / sampled));
+                })
+                .sorted(Comparator.comparingLong(MetricsSnapshot.TimerStat::calls).reversed())
+                .toList();
+        return new MetricsSnapshot(from, sqlCounter.total(), rows);
+    }
+
+    private static double round(double v) {
+        return Math.round(v * 1000) / 1000.0;
+    }
+}
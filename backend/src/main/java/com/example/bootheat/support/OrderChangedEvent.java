@@ -0,0 +1,68 @@
+package com.example.bootheat.support;
+
+import com.example.bootheat.domain.CustomerOrder;
+import com.example.bootheat.domain.OrderItem;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// OrderService가 주문 생성/상태 변경 시 발행하는 도메인 이벤트 (커밋 이후 리스너에서 소비)
+public record OrderChangedEvent(
+        Type type,
+        Long orderId,
+        Long boothId,
+        Long tableId,
+        Long visitId,
+        String orderCode,
+        String status,
+        String previousStatus,   // CREATED 이면 null
+        Integer totalAmount,
+        LocalDateTime createdAt,
+        LocalDate businessDate,  // 집계 키 (customer_order.business_date, hour_bucket)
+        int hourBucket,
+        LocalDateTime approvedAt,
+        List<Line> lines         // CREATED 일 때만 채움 (상태 변경은 빈 목록)
+) {
+    public enum Type { CREATED, STATUS_CHANGED }
+
+    public record Line(Long menuItemId, String name, Integer quantity, Integer unitPrice) {}
+
+    // 같은 주문의 상태 변경을 "previousStatus → status" 한 건으로 합칠 때 (SalesRollupService 재집계)
+    public OrderChangedEvent withPreviousStatus(String previous) {
+        return new OrderChangedEvent(type, orderId, boothId, tableId, visitId, orderCode, status, previous,
+                totalAmount, createdAt, businessDate, hourBucket, approvedAt, lines);
+    }
+
+    public static OrderChangedEvent created(CustomerOrder o, List<OrderItem> items) {
+        var lines = items.stream()
+                .map(oi -> new Line(oi.getMenuItem().getMenuItemId(), oi.getMenuItem().getName(),
+                        oi.getQuantity(), oi.getUnitPrice()))
+                .toList();
+        return of(Type.CREATED, o, null, lines);
+    }
+
+    public static OrderChangedEvent statusChanged(CustomerOrder o, String previousStatus) {
+        return of(Type.STATUS_CHANGED, o, previousStatus, List.of());
+    }
+
+    private static OrderChangedEvent of(Type type, CustomerOrder o, String previousStatus, List<Line> lines) {
+        // 연관 엔티티는 id만 읽으므로 프록시 초기화(추가 쿼리) 없음
+        return new OrderChangedEvent(
+                type,
+                o.getOrderId(),
+                o.getBooth().getBoothId(),
+                o.getTable().getTableId(),
+                o.getVisit().getVisitId(),
+                o.getOrderCode(),
+                o.getStatus(),
+                previousStatus,
+                o.getTotalAmount(),
+                o.getCreatedAt(),
+                o.getBusinessDate(),
+                o.getHourBucket(),
+                o.getApprovedAt(),
+                lines
+        );
+    }
+}
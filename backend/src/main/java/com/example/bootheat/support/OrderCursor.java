@@ -0,0 +1,31 @@
+package com.example.bootheat.support;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+// 주문 목록 키셋 페이지 커서: (createdAt, orderId) 내림차순에서 "이 주문보다 이전"
+// 문자열 형태 "2025-09-20T18:30:01.123456_42" (프론트는 그대로 before 파라미터로 되돌려줌)
+public record OrderCursor(LocalDateTime createdAt, Long orderId) {
+
+    // 영속성 컨텍스트/캐시의 엔티티 시각은 ns, DB 저장값은 µs(반올림) → DB 값에 맞춰야 경계 주문이 다음 페이지에 다시 나오지 않음
+    public OrderCursor {
+        createdAt = createdAt.plusNanos(500).truncatedTo(ChronoUnit.MICROS);
+    }
+
+    public String encode() {
+        return createdAt + "_" + orderId;
+    }
+
+    // null/빈 값이면 첫 페이지 → null
+    public static OrderCursor parse(String s) {
+        if (s == null || s.isBlank()) return null;
+        int sep = s.lastIndexOf('_');
+        if (sep < 0) throw new IllegalArgumentException("INVALID_CURSOR");
+        try {
+            return new OrderCursor(LocalDateTime.parse(s.substring(0, sep)), Long.valueOf(s.substring(sep + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("INVALID_CURSOR");
+        }
+    }
+}
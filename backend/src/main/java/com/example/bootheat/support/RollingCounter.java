@@ -0,0 +1,63 @@
+package com.example.bootheat.support;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 최근 N 칸(분/시간 등 정수 key) 의 건수·금액 링 버퍼. 잠금 없음
+// - 칸 = key mod N. 칸이 다른 key(N 칸 전 것)를 들고 있으면 새 칸으로 CAS 교체 → 별도 리셋/타이머 없음
+// - 더하기는 칸의 LongAdder 로 (같은 분에 주문이 몰려도 경합이 적음)
+// - 링보다 오래된 key 는 버림
+public class RollingCounter {
+
+    private static final class Slot {
+        final long key;
+        final LongAdder count = new LongAdder();
+        final LongAdder amount = new LongAdder();
+
+        Slot(long key) {
+            this.key = key;
+        }
+    }
+
+    private final AtomicReferenceArray<Slot> ring;
+
+    public RollingCounter(int size) {
+        this.ring = new AtomicReferenceArray<>(size);
+    }
+
+    public void add(long key, long count, long amount) {
+        Slot s = slot(key);
+        if (s == null) return;
+        s.count.add(count);
+        s.amount.add(amount);
+    }
+
+    public long count(long key) {
+        Slot s = ring.get(Math.floorMod(key, ring.length()));
+        return (s != null && s.key == key) ? s.count.sum() : 0;
+    }
+
+    // [fromKey, toKey] 구간 합 → {count, amount}
+    public long[] sum(long fromKey, long toKey) {
+        long count = 0, amount = 0;
+        for (int i = 0; i < ring.length(); i++) {
+            Slot s = ring.get(i);
+            if (s != null && s.key >= fromKey && s.key <= toKey) {
+                count += s.count.sum();
+                amount += s.amount.sum();
+            }
+        }
+        return new long[]{count, amount};
+    }
+
+    private Slot slot(long key) {
+        int i = Math.floorMod(key, ring.length());
+        while (true) {
+            Slot cur = ring.get(i);
+            if (cur != null && cur.key == key) return cur;
+            if (cur != null && cur.key > key) return null;     // 링 한 바퀴보다 오래된 값
+            Slot next = new Slot(key);
+            if (ring.compareAndSet(i, cur, next)) return next;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.bootheat.support;
+
+import com.example.bootheat.dto.CacheRegionStats;
+import org.springframework.stereotype.Component;
+
+import javax.cache.CacheManager;
+import javax.cache.management.CacheStatisticsMXBean;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// support/SecondLevelCacheStats.java
+// 2차 캐시 영역별 통계 (ehcache.xml 의 enable-statistics → JCache 가 등록한 CacheStatistics MBean 을 읽음)
+// 이 컨텍스트의 캐시 매니저 것만 (테스트처럼 여러 컨텍스트가 떠 있어도 섞이지 않게)
+@Component
+public class SecondLevelCacheStats {
+
+    private final CacheManager cacheManager;
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+    public SecondLevelCacheStats(CacheManager hibernateCacheManager) {
+        this.cacheManager = hibernateCacheManager;
+    }
+
+    // reset 시점 값 (MXBean.clear() 는 Ehcache 보정값 계산 때문에 clear 를 반복하면 적중 수가 0 에 묶이므로 쓰지 않음)
+    private final Map<String, Counters> baseline = new ConcurrentHashMap<>();
+
+    public List<CacheRegionStats> snapshot() {
+        return regionBeans().stream()
+                .map(r -> {
+                    Counters c = Counters.of(r.stats()).minus(baseline.get(r.region()));
+                    long gets = c.hits() + c.misses();
+                    double hitRate = gets == 0 ? 0 : Math.round(1000.0 * c.hits() / gets) / 1000.0;
+                    return new CacheRegionStats(r.region(), c.hits(), c.misses(), c.puts(), c.evictions(), hitRate);
+                })
+                .sorted(Comparator.comparing(CacheRegionStats::region))
+                .toList();
+    }
+
+    public void reset() {
+        regionBeans().forEach(r -> baseline.put(r.region(), Counters.of(r.stats())));
+    }
+
+    private record Counters(long hits, long misses, long puts, long evictions) {
+        static Counters of(CacheStatisticsMXBean s) {
+            return new Counters(s.getCacheHits(), s.getCacheMisses(), s.getCachePuts(), s.getCacheEvictions());
+        }
+
+        Counters minus(Counters base) {
+            if (base == null) return this;
+            return new Counters(hits - base.hits, misses - base.misses, puts - base.puts, evictions - base.evictions);
+        }
+    }
+
+    private record RegionBean(String region, CacheStatisticsMXBean stats) {}
+
+    private List<RegionBean> regionBeans() {
+        try {
+            // JCache 규칙: ObjectName 값의 , : = 는 . 로 치환됨
+            String manager = cacheManager.getURI().toString().replaceAll("[,:=\n]", ".");
+            var pattern = new ObjectName("javax.cache:type=CacheStatistics,CacheManager=" + manager + ",Cache=*");
+            return server.queryNames(pattern, null).stream()
+                    .map(name -> new RegionBean(name.getKeyProperty("Cache"),
+                            JMX.newMXBeanProxy(server, name, CacheStatisticsMXBean.class)))
+                    .toList();
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
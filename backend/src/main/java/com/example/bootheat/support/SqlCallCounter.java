@@ -0,0 +1,28 @@
+package com.example.bootheat.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// support/SqlCallCounter.java
+// Hibernate 가 준비하는 SQL 수 집계 (배치 insert 는 1회) → 메서드별 DB 호출 수 계산용
+// TimeTraceAop 에서 hibernate.session_factory.statement_inspector 로 등록
+@Component
+public class SqlCallCounter implements StatementInspector {
+
+    private final LongAdder total = new LongAdder();
+    private final ThreadLocal<long[]> perThread = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        total.increment();
+        perThread.get()[0]++;
+        return sql;
+    }
+
+    public long total() { return total.sum(); }
+
+    // 현재 스레드 누적값 (호출 전후 차이로 메서드별 SQL 수 계산)
+    public long currentThread() { return perThread.get()[0]; }
+}
@@ -0,0 +1,122 @@
+package com.example.bootheat.support;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+// 로컬 추가 전용 로그. 레코드 = [길이 int][crc32 int][payload]
+// - append 는 파일에 쓴 뒤 fsync 까지 기다림. 동시에 들어온 append 들은 fsync 한 번을 같이 씀 (group commit)
+// - readAll 은 마지막의 잘린/깨진 레코드(쓰다가 죽은 것)를 버리고 그 앞까지만 돌려줌
+// - 반영이 끝난 레코드는 truncateIfSettled 로 파일째 비움 (레코드 단위 삭제 없음)
+public class WriteAheadLog implements Closeable {
+
+    private static final int HEADER_BYTES = 8;
+
+    private final FileChannel channel;
+    private final ReentrantLock syncLock = new ReentrantLock();   // fsync 대기 중 가상 스레드가 캐리어를 붙잡지 않게
+    private long appended;      // 마지막 truncate 이후 append 된 레코드 수 (this 로 보호)
+    private long written;       // 지금까지 쓴 레코드 누적 번호 (this 로 보호)
+    private long synced;        // fsync 가 끝난 누적 번호 (syncLock 으로 보호)
+
+    public WriteAheadLog(Path path) throws IOException {
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.channel.position(channel.size());
+    }
+
+    public void append(byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_BYTES + payload.length)
+                .putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+        long seq;
+        synchronized (this) {
+            while (buf.hasRemaining()) channel.write(buf);
+            appended++;
+            seq = ++written;
+        }
+        sync(seq);
+    }
+
+    // 먼저 들어온 스레드가 그 시점까지 쓴 전부를 fsync → 뒤에서 기다리던 스레드는 대부분 바로 반환
+    private void sync(long seq) throws IOException {
+        syncLock.lock();
+        try {
+            if (synced >= seq) return;
+            long upTo;
+            synchronized (this) { upTo = written; }
+            channel.force(false);
+            synced = upTo;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    public synchronized List<byte[]> readAll() throws IOException {
+        List<byte[]> records = new ArrayList<>();
+        long pos = 0, size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (pos + HEADER_BYTES <= size) {
+            header.clear();
+            if (readFully(header, pos) < HEADER_BYTES) break;
+            int len = header.getInt(0);
+            int crc = header.getInt(4);
+            if (len < 0 || pos + HEADER_BYTES + len > size) break;
+
+            ByteBuffer body = ByteBuffer.allocate(len);
+            if (readFully(body, pos + HEADER_BYTES) < len) break;
+            CRC32 check = new CRC32();
+            check.update(body.array());
+            if ((int) check.getValue() != crc) break;
+
+            records.add(body.array());
+            pos += HEADER_BYTES + len;
+        }
+        // 깨진 꼬리는 잘라내고 그 뒤부터 이어 씀
+        if (pos < size) channel.truncate(pos);
+        channel.position(pos);
+        return records;
+    }
+
+    private int readFully(ByteBuffer buf, long from) throws IOException {
+        int total = 0;
+        while (buf.hasRemaining()) {
+            int n = channel.read(buf, from + total);
+            if (n < 0) break;
+            total += n;
+        }
+        return total;
+    }
+
+    // 이번 세대에 append 된 레코드가 모두 반영(settled)됐고 파일이 minBytes 이상이면 비움
+    public synchronized boolean truncateIfSettled(long settled, long minBytes) throws IOException {
+        if (settled != appended || channel.size() < minBytes) return false;
+        truncate();
+        return true;
+    }
+
+    public synchronized void truncate() throws IOException {
+        channel.truncate(0);
+        channel.position(0);
+        channel.force(false);
+        appended = 0;
+    }
+
+    public synchronized long size() throws IOException {
+        return channel.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
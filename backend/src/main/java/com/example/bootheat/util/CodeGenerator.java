@@ -14,6 +14,12 @@ public final class CodeGenerator {
 //        return "BE-" + date + "-" + String.format("%04d", n);
 //    }
 
+    // 부스/영업일별 짧은 일련번호 (픽업 화면용): BE-20250101-3-0042
+    public static String orderCode(long boothId, java.time.LocalDate businessDate, int seq) {
+        return "BE-" + businessDate.format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE)
+                + "-" + boothId + "-" + String.format("%04d", seq);
+    }
+
     public static String orderCodeFromId(long id) {
         String date = java.time.LocalDate.now()
                 .format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE); // yyyyMMdd
@@ -2,12 +2,18 @@
 package com.example.bootheat.web;
 
 import com.example.bootheat.dto.*;
+import com.example.bootheat.service.MenuImageService;
 import com.example.bootheat.service.MenuService;
+import com.example.bootheat.service.ModelAssetService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -16,6 +22,8 @@ import java.util.List;
 public class ManagerMenuController {
 
     private final MenuService menuService;
+    private final MenuImageService imageService;
+    private final ModelAssetService modelService;
 
     // 생성
     // POST /api/manager/booths/{boothId}/menus
@@ -46,6 +54,27 @@ public class ManagerMenuController {
         return ResponseEntity.ok().build(); // 200 OK
     }
 
+    // POST /api/manager/booths/{boothId}/menus/{menuItemId}/image  (multipart, 파트 이름 file)
+    // 파트는 Tomcat 이 디스크 임시 파일로 받아 두고(file-size-threshold=0) 여기서도 스트림으로만 읽음
+    @PostMapping(value = "/booths/{boothId}/menus/{menuItemId}/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public MenuImageResponse uploadImage(@PathVariable Long boothId,
+                                         @PathVariable Long menuItemId,
+                                         @RequestPart("file") MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return imageService.upload(boothId, menuItemId, in);
+        }
+    }
+
+    // POST /api/manager/booths/{boothId}/menus/{menuItemId}/model  (multipart, 파트 이름 file, .glb/.gltf/.usdz)
+    @PostMapping(value = "/booths/{boothId}/menus/{menuItemId}/model", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ModelAssetResponse uploadModel(@PathVariable Long boothId,
+                                          @PathVariable Long menuItemId,
+                                          @RequestPart("file") MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return modelService.upload(boothId, menuItemId, file.getOriginalFilename(), in);
+        }
+    }
+
     // web/ManagerMenuController.java (토글 엔드포인트 교체)
     @PostMapping("/menus/{menuItemId}/toggle-available")
     public ResponseEntity<Void> toggle(@PathVariable Long menuItemId,
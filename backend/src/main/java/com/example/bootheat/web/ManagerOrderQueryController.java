@@ -1,10 +1,16 @@
 // web/ManagerOrderQueryController.java (신규)
 package com.example.bootheat.web;
 
+import com.example.bootheat.dto.KitchenTicket;
 import com.example.bootheat.dto.OrderDetailManagerResponse;
+import com.example.bootheat.service.KitchenQueueService;
+import com.example.bootheat.service.OrderStreamService;
 import com.example.bootheat.service.QueryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -14,6 +20,8 @@ import java.util.List;
 public class ManagerOrderQueryController {
 
     private final QueryService queryService;
+    private final OrderStreamService orderStreamService;
+    private final KitchenQueueService kitchenQueueService;
 
     // 상세 1건 (매니저용)
 //    @GetMapping("/orders/{orderId}")
@@ -21,10 +29,28 @@ public class ManagerOrderQueryController {
 //        return queryService.getOrderDetailForManager(orderId);
 //    }
 
-    // 테이블의 모든 주문 (상세 배열)
+    // 테이블의 주문 (상세 배열, 최신순)
+    // 한 페이지씩 (?limit=, 기본 20, 최대 100). 다음 페이지 커서는 X-Next-Cursor 헤더 → ?before= 로 전달
     @GetMapping("/booths/{boothId}/tables/{tableId}/orders")
-    public List<OrderDetailManagerResponse> tableOrders(@PathVariable Long boothId,
-                                                        @PathVariable Long tableId) {
-        return queryService.getTableOrderDetails(boothId, tableId);
+    public ResponseEntity<List<OrderDetailManagerResponse>> tableOrders(@PathVariable Long boothId,
+                                                                        @PathVariable Long tableId,
+                                                                        @RequestParam(required = false) Integer limit,
+                                                                        @RequestParam(required = false) String before) {
+        return PublicQueryController.withCursor(queryService.getTableOrderDetails(boothId, tableId, before, limit));
+    }
+
+    // 부스 주문 실시간 스트림 (SSE): order-created / status-changed
+    // GET /api/manager/booths/{boothId}/orders/stream
+    @GetMapping(value = "/booths/{boothId}/orders/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter orderStream(@PathVariable Long boothId) {
+        return orderStreamService.subscribe(boothId);
+    }
+
+    // 주방 큐 (진행 중 주문, 생성 순) — 메모리에서 바로 응답
+    // GET /api/manager/booths/{boothId}/queue?status=PENDING|APPROVED
+    @GetMapping("/booths/{boothId}/queue")
+    public List<KitchenTicket> queue(@PathVariable Long boothId,
+                                     @RequestParam(required = false) String status) {
+        return kitchenQueueService.queue(boothId, status);
     }
 }
@@ -2,10 +2,15 @@
 package com.example.bootheat.web;
 
 import com.example.bootheat.dto.*;
+import com.example.bootheat.service.OrderExportService;
 import com.example.bootheat.service.StatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -17,6 +22,7 @@ import java.util.Map;
 public class ManagerStatsController {
 
     private final StatsService statsService;
+    private final OrderExportService exportService;
 
     // GET /api/manager/booths/{boothId}/menus/{menuItemId}/metrics/total-orders
     @GetMapping("/booths/{boothId}/menus/{menuItemId}/metrics/total-orders")
@@ -44,6 +50,12 @@ public class ManagerStatsController {
         return statsService.statsSummaryByDate(boothId, date);
     }
 
+    // GET /api/manager/booths/{boothId}/stats/load — 최근 5/15/60분 주문수·매출 (실시간, DB 조회 없음)
+    @GetMapping("/booths/{boothId}/stats/load")
+    public BoothLoadResponse currentLoad(@PathVariable Long boothId) {
+        return statsService.currentLoad(boothId);
+    }
+
     // GET /api/manager/rankings/menu?boothId=1&metric=qty|amount&limit=5
     @GetMapping("/rankings/menu")
     public MenuRankingResponse ranking(@RequestParam Long boothId,
@@ -60,6 +72,21 @@ public class ManagerStatsController {
         return statsService.allBoothsOrdersByDate(date);
     }
 
+    // GET /api/manager/booths/stats/date/{date}/export?format=ndjson|csv
+    // 위와 같은 내용을 주문 단위로 스트리밍 (NDJSON: 주문 1건 = 1줄, CSV: 라인아이템 1건 = 1행)
+    @GetMapping("/booths/stats/date/{date}/export")
+    public ResponseEntity<StreamingResponseBody> exportAllBoothsOrdersByDate(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        var f = OrderExportService.Format.parse(format);
+        StreamingResponseBody body = out -> exportService.writeOrdersByDate(date, f, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(f.contentType))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"orders-" + date + "." + f.extension + "\"")
+                .body(body);
+    }
+
     // GET /api/manager/booths/order/stats/date/{date}
     // url 예시: /api/manager/booths/order/stats/date/2023-10-01
     @GetMapping("/order/stats/date/{date}")
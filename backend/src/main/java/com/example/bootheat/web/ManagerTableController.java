@@ -6,10 +6,18 @@ import com.example.bootheat.dto.TableContextResponse;
 import com.example.bootheat.dto.TableDto;
 import com.example.bootheat.service.OrderService;
 import com.example.bootheat.service.QueryService;
+import com.example.bootheat.service.TableQrService;
 import com.example.bootheat.service.TableService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
 
 @RestController
 @RequestMapping("/api/manager")
@@ -18,6 +26,7 @@ class ManagerTableController {
     private final OrderService orderService;
     private final QueryService queryService;
     private final TableService tableService; // ⬅︎ 신규 서비스
+    private final TableQrService qrService;
 
     // 기존: /api/manager/tables/{boothId}/{tableNo}/close-visit
     @PostMapping("/tables/{tableId}/close-visit")
@@ -38,4 +47,29 @@ class ManagerTableController {
         return ResponseEntity.status(201).build(); // Created 201, 바디 없음
     }
 
+    // GET /api/manager/booths/{boothId}/tables/{tableNo}/qr.png[?size=300&baseUrl=https://...]
+    @GetMapping("/booths/{boothId}/tables/{tableNo}/qr.png")
+    public ResponseEntity<byte[]> tableQr(@PathVariable Long boothId,
+                                          @PathVariable Integer tableNo,
+                                          @RequestParam(required = false) Integer size,
+                                          @RequestParam(required = false) String baseUrl) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .cacheControl(CacheControl.maxAge(Duration.ofHours(1)))
+                .body(qrService.tablePng(boothId, tableNo, size, baseUrl));
+    }
+
+    // GET /api/manager/booths/{boothId}/tables/qr.zip — 부스 전체 테이블 QR 일괄 (인쇄용)
+    @GetMapping("/booths/{boothId}/tables/qr.zip")
+    public ResponseEntity<StreamingResponseBody> tableQrZip(@PathVariable Long boothId,
+                                                            @RequestParam(required = false) Integer size,
+                                                            @RequestParam(required = false) String baseUrl) {
+        var zip = qrService.boothZip(boothId, size, baseUrl);   // 검증 실패는 여기서 400
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("booth-" + boothId + "-qr.zip").build().toString())
+                .body(zip::writeTo);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+// web/MenuImageController.java
+package com.example.bootheat.web;
+
+import com.example.bootheat.service.MenuImageService;
+import com.example.bootheat.support.FileTransfer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/images")
+@RequiredArgsConstructor
+public class MenuImageController {
+
+    private static final String IMMUTABLE =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+
+    private final MenuImageService imageService;
+
+    // GET /api/images/menus/{hash}-{width}.jpg|png  (MenuItem.previewImage 가 가리키는 URL)
+    // 파일명이 내용 해시라 바뀌지 않음 → 1년 immutable, ETag 도 파일명 그대로
+    @GetMapping("/menus/{file:.+}")
+    public void thumbnail(@PathVariable String file,
+                          HttpServletRequest req, HttpServletResponse res) throws IOException {
+        Path path = imageService.thumbnail(file);
+        String etag = "\"" + file + "\"";
+        res.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE);
+        res.setHeader(HttpHeaders.ETAG, etag);
+        if (FileTransfer.etagMatches(req.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            res.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        res.setContentType(file.endsWith(".png") ? MediaType.IMAGE_PNG_VALUE : MediaType.IMAGE_JPEG_VALUE);
+        FileTransfer.send(path, 0, Files.size(path), req, res);
+    }
+}
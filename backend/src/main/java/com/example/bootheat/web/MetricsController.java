@@ -0,0 +1,38 @@
+package com.example.bootheat.web;
+
+import com.example.bootheat.dto.CacheRegionStats;
+import com.example.bootheat.dto.MetricsSnapshot;
+import com.example.bootheat.support.MetricsRegistry;
+import com.example.bootheat.support.SecondLevelCacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    private final MetricsRegistry registry;
+    private final SecondLevelCacheStats cacheStats;
+
+    @GetMapping
+    public MetricsSnapshot metrics() {
+        return registry.snapshot();
+    }
+
+    // GET /api/metrics/cache — 2차 캐시 영역별 적중/미스
+    @GetMapping("/cache")
+    public List<CacheRegionStats> cache() {
+        return cacheStats.snapshot();
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> reset() {
+        registry.reset();
+        cacheStats.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,95 @@
+// web/ModelAssetController.java
+package com.example.bootheat.web;
+
+import com.example.bootheat.service.ModelAssetService;
+import com.example.bootheat.support.FileTransfer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/models")
+@RequiredArgsConstructor
+public class ModelAssetController {
+
+    private static final String IMMUTABLE =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+
+    private final ModelAssetService modelService;
+
+    // GET /api/models/{hash}.glb|gltf|usdz  (MenuItem.modelUrl 이 가리키는 URL)
+    // - Accept-Encoding: gzip 이면 업로드 때 만들어 둔 .gz 를 그대로 (ETag 도 따로)
+    // - If-None-Match 일치 → 304
+    // - Range 단일 구간 → 206 (끊긴 다운로드 이어받기), 범위 밖 → 416, If-Range 가 다르거나 여러 구간이면 전체 200
+    @GetMapping("/{file:.+}")
+    public void model(@PathVariable String file,
+                      HttpServletRequest req, HttpServletResponse res) throws IOException {
+        var asset = modelService.resolve(file, acceptsGzip(req.getHeader(HttpHeaders.ACCEPT_ENCODING)));
+        res.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        res.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE);
+        res.setHeader(HttpHeaders.ETAG, asset.etag());
+        res.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (FileTransfer.etagMatches(req.getHeader(HttpHeaders.IF_NONE_MATCH), asset.etag())) {
+            res.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        res.setContentType(asset.contentType());
+        if (asset.gzip()) res.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+        long length = asset.length();
+        long start = 0, count = length;
+        HttpRange range = singleRange(req, asset.etag());
+        if (range != null) {
+            start = range.getRangeStart(length);
+            if (start >= length) {
+                res.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                res.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            count = range.getRangeEnd(length) - start + 1;
+            res.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            res.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (start + count - 1) + "/" + length);
+        }
+
+        if ("HEAD".equals(req.getMethod())) {
+            res.setContentLengthLong(count);
+            return;
+        }
+        FileTransfer.send(asset.file(), start, count, req, res);
+    }
+
+    // 형식이 틀린 Range 는 무시 (RFC 9110: 전체 응답)
+    private static HttpRange singleRange(HttpServletRequest req, String etag) {
+        String header = req.getHeader(HttpHeaders.RANGE);
+        String ifRange = req.getHeader(HttpHeaders.IF_RANGE);
+        if (header == null || (ifRange != null && !ifRange.equals(etag))) return null;
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // "gzip" 이 있고 q=0 이 아니면
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) continue;
+            for (int i = 1; i < parts.length; i++) {
+                if (parts[i].trim().matches("q=0(\\.0{0,3})?")) return false;
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -2,11 +2,12 @@ package com.example.bootheat.web;
 
 import com.example.bootheat.dto.AccountInfoResponse;
 import com.example.bootheat.dto.MenuItemDto;
-import com.example.bootheat.repository.MenuItemRepository;
 import com.example.bootheat.service.ManagerQueryService;
+import com.example.bootheat.service.MenuCatalogCache;
 import com.example.bootheat.service.MenuService;
 import com.example.bootheat.service.QueryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -22,19 +23,18 @@ class PublicBoothController {
     private final QueryService queryService;
     private final MenuService menuService;
     private final ManagerQueryService managerQueryService;
-    private final MenuItemRepository menuRepo;
+    private final MenuCatalogCache menuCatalog;
 
     // booths API
     // GET /api/booths/{boothId}/menus  → 판매중만
+    // 메모리 캐시에서 응답 + ETag. If-None-Match 가 같으면 304 (본문 없음)
     @GetMapping("/{boothId}/menus")
-    public List<MenuItemDto> menus(@PathVariable Long boothId) {
-        return menuRepo.findByBooth_BoothIdAndAvailableTrueOrderByNameAsc(boothId)
-                .stream()
-                .map(m -> new MenuItemDto(
-                        m.getMenuItemId(), m.getBooth().getBoothId(), m.getName(),
-                        m.getPrice(), m.getAvailable(), m.getModelUrl(), m.getPreviewImage(),
-                        m.getDescription(), m.getCategory()==null?null:m.getCategory().name()
-                )).toList();
+    public ResponseEntity<List<MenuItemDto>> menus(@PathVariable Long boothId) {
+        var catalog = menuCatalog.get(boothId);
+        return ResponseEntity.ok()
+                .eTag(catalog.etag())
+                .cacheControl(CacheControl.noCache()) // 매번 재검증 → 변경 즉시 반영
+                .body(catalog.items());
     }
     // 단일 메뉴 조회
     @GetMapping("/{boothId}/menus/{menuItemId}")
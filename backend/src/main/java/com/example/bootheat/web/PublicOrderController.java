@@ -1,27 +1,43 @@
 package com.example.bootheat.web;
 
 import com.example.bootheat.dto.*;
-import com.example.bootheat.service.OrderService;
+import com.example.bootheat.service.OrderSubmissionService;
+import com.example.bootheat.service.OrderStatusWaitService;
 import com.example.bootheat.service.QueryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
 public class PublicOrderController {
-    private final OrderService orderService;
+    private final OrderSubmissionService orderSubmissionService;
     private final QueryService queryService;
+    private final OrderStatusWaitService statusWaitService;
 
-    // 주문 생성
+    // 주문 생성 (Idempotency-Key 헤더가 같으면 재전송으로 보고 최초 응답 반환)
     @PostMapping("/orders")
-    public OrderCreatedResponse create(@Valid @RequestBody CreateOrderRequest req) {
-        return orderService.createOrder(req);
+    public OrderCreatedResponse create(@Valid @RequestBody CreateOrderRequest req,
+                                       @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        return orderSubmissionService.submit(req, idempotencyKey);
     }
     // 주문 상세 조회
     @GetMapping("/orders/{orderId}")  // <- 메서드 레벨에서 "/orders/{orderId}"
     public OrderDetailManagerResponse get(@PathVariable Long orderId) {
         return queryService.getOrderDetailForManager(orderId);
     }
+
+    // 주문 상태 변경 대기 (long-poll, 3초 폴링 대체)
+    // GET /api/orders/{orderId}/status/wait?since=PENDING&timeoutMs=25000
+    // 상태가 since와 다르면 즉시 200, 변경되면 그 순간 200, 타임아웃이면 204
+    @GetMapping("/orders/{orderId}/status/wait")
+    public DeferredResult<ResponseEntity<OrderStatusResponse>> waitStatus(
+            @PathVariable Long orderId,
+            @RequestParam(defaultValue = "PENDING") String since,
+            @RequestParam(defaultValue = "" + OrderStatusWaitService.DEFAULT_TIMEOUT_MS) long timeoutMs) {
+        return statusWaitService.await(orderId, since, timeoutMs);
+    }
 }
@@ -1,14 +1,13 @@
 package com.example.bootheat.web;
 
+import com.example.bootheat.dto.CursorPage;
 import com.example.bootheat.dto.OrderDetailManagerResponse;
 import com.example.bootheat.dto.OrderIdsResponse;
 import com.example.bootheat.dto.TableContextResponse;
 import com.example.bootheat.service.QueryService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
@@ -16,6 +15,8 @@ import java.util.List;
 @RequestMapping("/api")
 @RequiredArgsConstructor
 class PublicQueryController {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final QueryService queryService;
 
     // GET /api/tables/{tableId}/visits/latest/orders
@@ -26,10 +27,19 @@ class PublicQueryController {
         return new OrderIdsResponse(ids);
     }
 
-    // GET /api/booths/{boothId}/tables/{tableId}/orders
+    // GET /api/booths/{boothId}/tables/{tableId}/orders[?limit=20&before=커서]
     @GetMapping("/booths/{boothId}/tables/{tableId}/orders")
-    public List<OrderDetailManagerResponse> tableOrdersPublic(@PathVariable Long boothId,
-                                                              @PathVariable Long tableId) {
-        return queryService.getTableOrderDetails(boothId, tableId);
+    public ResponseEntity<List<OrderDetailManagerResponse>> tableOrdersPublic(@PathVariable Long boothId,
+                                                                              @PathVariable Long tableId,
+                                                                              @RequestParam(required = false) Integer limit,
+                                                                              @RequestParam(required = false) String before) {
+        return withCursor(queryService.getTableOrderDetails(boothId, tableId, before, limit));
+    }
+
+    // 본문은 기존과 같은 배열, 다음 페이지가 있으면 커서를 헤더로
+    static <T> ResponseEntity<List<T>> withCursor(CursorPage<T> page) {
+        var res = ResponseEntity.ok();
+        if (page.nextCursor() != null) res.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        return res.body(page.items());
     }
 }
\ No newline at end of file
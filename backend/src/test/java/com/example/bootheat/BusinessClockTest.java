@@ -0,0 +1,55 @@
+// src/test/java/com/example/bootheat/BusinessClockTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.support.BusinessClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BusinessClockTest {
+
+    private static final String SERVER_ZONE = ZoneId.systemDefault().getId();
+
+    @Test
+    void 마감_시각_전_새벽_주문은_전날_영업일() {
+        var clock = new BusinessClock(SERVER_ZONE, "06:00");
+        var night = LocalDateTime.of(2026, 10, 17, 1, 30);
+        var morning = LocalDateTime.of(2026, 10, 17, 6, 0);
+
+        assertThat(clock.businessDate(night)).isEqualTo(LocalDate.of(2026, 10, 16));
+        assertThat(clock.hourBucket(night)).isEqualTo(1);
+        assertThat(clock.businessDate(morning)).isEqualTo(LocalDate.of(2026, 10, 17));
+        assertThat(clock.hourBucket(morning)).isEqualTo(6);
+
+        // 영업일 10/16 = 10/16 06:00 ~ 10/17 06:00, 새벽 버킷은 다음 날 달력 시각
+        assertThat(clock.dayStart(LocalDate.of(2026, 10, 16))).isEqualTo(LocalDateTime.of(2026, 10, 16, 6, 0));
+        assertThat(clock.hourStart(LocalDate.of(2026, 10, 16), 1)).isEqualTo(LocalDateTime.of(2026, 10, 17, 1, 0));
+        assertThat(clock.hourStart(LocalDate.of(2026, 10, 16), 23)).isEqualTo(LocalDateTime.of(2026, 10, 16, 23, 0));
+    }
+
+    @Test
+    void 서버와_다른_시간대면_영업_시간대_기준() {
+        var clock = new BusinessClock("Asia/Seoul", "00:00");   // UTC+9
+        var serverTime = serverTime("2026-10-17T15:30:00Z");    // 서울 10/18 00:30
+
+        assertThat(clock.businessDate(serverTime)).isEqualTo(LocalDate.of(2026, 10, 18));
+        assertThat(clock.hourBucket(serverTime)).isZero();
+        assertThat(clock.dayStart(LocalDate.of(2026, 10, 18))).isEqualTo(serverTime("2026-10-17T15:00:00Z"));
+    }
+
+    @Test
+    void 마감_시각은_정시만() {
+        assertThatThrownBy(() -> new BusinessClock("", "05:30"))
+                .hasMessage("DAY_CUTOFF_NOT_ON_THE_HOUR");
+    }
+
+    private static LocalDateTime serverTime(String instant) {
+        return Instant.parse(instant).atZone(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
@@ -0,0 +1,264 @@
+// src/test/java/com/example/bootheat/IndexPlanTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.repository.*;
+import com.example.bootheat.support.Status;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 레포지토리 조회 쿼리가 대량 데이터에서 테이블 풀스캔으로 빠지지 않는지 EXPLAIN 으로 검사
+// - 각 조회 메서드를 실제로 호출하고, H2 QUERY_STATISTICS 에 남은 SQL 을 그대로 EXPLAIN
+// - 엔티티 @Index 를 지우거나 새 조회 메서드가 인덱스를 못 타면 여기서 실패
+// 대량 시드가 다른 테스트에 섞이지 않도록 컨텍스트(=인메모리 DB)를 이 클래스 전용으로 씀
+// 2차/쿼리 캐시는 끔 (캐시 적중이면 SQL 이 안 나가서 검사할 문장이 없음)
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class IndexPlanTest {
+
+    // H2 계획의 접근 방식 주석: "/* PUBLIC.T.tableScan */" 또는 조건 없이 인덱스 전체를 훑는 "/* PUBLIC.IDX */"
+    // (조건이 있으면 "/* PUBLIC.IDX: COL = ?1 */" 처럼 콜론 뒤에 붙음)
+    static final Pattern FULL_SCAN = Pattern.compile("/\\* PUBLIC\\.[A-Z0-9_.]+(\\.tableScan)? \\*/");
+
+    // data.sql / 다른 테스트의 IDENTITY·시퀀스 값과 겹치지 않는 구간
+    static final long BASE = 1_000_000L;
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired PlatformTransactionManager txManager;
+    @Autowired BoothTableRepository tableRepo;
+    @Autowired CustomerOrderRepository orderRepo;
+    @Autowired ManagerUserRepository managerRepo;
+    @Autowired MenuItemRepository menuRepo;
+    @Autowired OrderItemRepository orderItemRepo;
+    @Autowired PaymentInfoRepository paymentRepo;
+    @Autowired TableVisitRepository visitRepo;
+    @Autowired BoothSalesRollupRepository boothRollupRepo;
+    @Autowired MenuSalesRollupRepository menuRollupRepo;
+
+    @BeforeEach
+    void seed() {
+        if (jdbc.queryForObject("select count(*) from booth where booth_id > ?", Long.class, BASE) > 0) return;
+
+        // 부스 50, 테이블 500, 메뉴 500, 방문 5천, 주문 2만, 라인 6만, 집계 3만여 행
+        jdbc.update("""
+                insert into booth (booth_id, name, location, created_at)
+                select ? + x, 'booth' || x, 'loc', localtimestamp from system_range(1, 50)""", BASE);
+        jdbc.update("""
+                insert into booth_table (table_id, booth_id, table_number, active, created_at)
+                select ? + x, ? + mod(x - 1, 50) + 1, (x - 1) / 50 + 1, true, localtimestamp
+                  from system_range(1, 500)""", BASE, BASE);
+        jdbc.update("""
+                insert into menu_item (menu_item_id, booth_id, name, category, price, available, created_at)
+                select ? + x, ? + mod(x - 1, 50) + 1, 'menu' || x, 'FOOD', 1000, mod(x, 5) <> 0, localtimestamp
+                  from system_range(1, 500)""", BASE, BASE);
+        jdbc.update("""
+                insert into manager_user (manager_id, booth_id, username, password_hash, role, created_at)
+                select ? + x, ? + x, 'idx-manager' || x, 'x', 'MANAGER', localtimestamp
+                  from system_range(1, 50)""", BASE, BASE);
+        jdbc.update("""
+                insert into table_visit (visit_id, table_id, visit_no, status, started_at, closed_at)
+                select ? + x, ? + mod(x - 1, 500) + 1, (x - 1) / 500 + 1,
+                       case when x > 4500 then 'OPEN' else 'CLOSED' end,
+                       dateadd('MINUTE', -4 * x, localtimestamp),
+                       case when x > 4500 then null else dateadd('MINUTE', -4 * x + 30, localtimestamp) end
+                  from system_range(1, 5000)""", BASE, BASE);
+        jdbc.update("""
+                insert into customer_order (order_id, booth_id, table_id, visit_id, status, order_code,
+                                            total_amount, created_at, business_date, hour_bucket, approved_at)
+                select ? + x, ? + mod(x - 1, 50) + 1, ? + mod(x - 1, 500) + 1, ? + mod(x - 1, 5000) + 1,
+                       case mod(x, 3) when 0 then 'PENDING' when 1 then 'APPROVED' else 'REJECTED' end,
+                       'IDX-' || x, 1000, dateadd('MINUTE', -x, localtimestamp),
+                       cast(dateadd('MINUTE', -x, localtimestamp) as date), extract(hour from dateadd('MINUTE', -x, localtimestamp)),
+                       case mod(x, 3) when 1 then dateadd('MINUTE', -x + 1, localtimestamp) end
+                  from system_range(1, 20000)""", BASE, BASE, BASE, BASE);
+        jdbc.update("""
+                insert into order_item (order_item_id, order_id, menu_item_id, quantity, unit_price)
+                select ? + x, ? + mod(x - 1, 20000) + 1, ? + mod(x - 1, 50) + 1 + 50 * mod(x - 1, 10), 1, 1000
+                  from system_range(1, 60000)""", BASE, BASE, BASE);
+        jdbc.update("""
+                insert into payment_info (payment_info_id, order_id, payer_name, amount, paid_at)
+                select ? + x, ? + x, 'payer', 1000, localtimestamp from system_range(1, 20000)""", BASE, BASE);
+        jdbc.update("""
+                insert into booth_sales_rollup (booth_id, business_date, hour_of_day, order_count, amount)
+                select ? + mod(x - 1, 50) + 1, dateadd('DAY', -((x - 1) / 1200), current_date), mod((x - 1) / 50, 24), 1, 1000
+                  from system_range(1, 12000)""", BASE);
+        jdbc.update("""
+                insert into menu_sales_rollup (booth_id, business_date, hour_of_day, menu_item_id, qty, amount, order_count)
+                select ? + mod(x - 1, 50) + 1, dateadd('DAY', -mod((x - 1) / 1200, 10), current_date), mod((x - 1) / 50, 24),
+                       ? + mod(x - 1, 50) + 1 + 50 * ((x - 1) / 12000), 1, 1000, 1
+                  from system_range(1, 24000)""", BASE, BASE);
+        jdbc.execute("analyze");
+    }
+
+    @Test
+    void 모든_레포지토리_조회가_인덱스를_탐() {
+        List<String> sqls = captureSql(this::callEveryQuery);
+
+        List<String> checked = new ArrayList<>();
+        List<String> scans = new ArrayList<>();
+        for (String sql : sqls) {
+            if (!isIndexedAccess(sql)) continue;
+            String plan = explain(sql);
+            checked.add(sql);
+            if (FULL_SCAN.matcher(plan).find()) scans.add(sql + "\n  → " + plan.replace('\n', ' '));
+        }
+
+        assertThat(checked).hasSizeGreaterThanOrEqualTo(30);
+        assertThat(scans).as("테이블 풀스캔 쿼리").isEmpty();
+    }
+
+    @Test
+    void 핫패스_쿼리는_기대한_인덱스를_사용() {
+        var today = LocalDate.now();
+        assertUses(() -> orderRepo.sumBetween(BASE + 1, today, today), "IDX_ORDER_BOOTH_DAY");
+        assertUses(() -> orderRepo.hourlyCounts(BASE + 1, today), "IDX_ORDER_BOOTH_DAY");
+        assertUses(() -> orderRepo.sumAllBetween(today.minusDays(1), today), "IDX_ORDER_DAY_BOOTH");
+        assertUses(() -> visitRepo.findFirstByTable_TableIdAndStatusOrderByStartedAtDesc(BASE + 1, Status.OPEN),
+                "IDX_VISIT_TABLE_STATUS_STARTED");
+        assertUses(() -> orderItemRepo.findByOrder_OrderId(BASE + 1), "IDX_ORDER_ITEM_ORDER");
+    }
+
+    // 부스/테이블/방문/주문/메뉴 id 는 시드 구간의 첫 값, 날짜는 오늘
+    private void callEveryQuery() {
+        long booth = BASE + 1, table = BASE + 1, visit = BASE + 1, order = BASE + 1, menu = BASE + 1;
+        LocalDate date = LocalDate.now();
+        LocalDateTime start = date.atStartOfDay(), end = start.plusDays(1);
+        List<Long> orderIds = List.of(BASE + 1, BASE + 2, BASE + 3);
+
+        tableRepo.findByBooth_BoothIdAndTableNumber(booth, 1);
+        tableRepo.existsByBooth_BoothIdAndTableNumber(booth, 1);
+        tableRepo.findByBooth_BoothIdOrderByTableNumberAsc(booth);
+
+        orderRepo.findTop10ByTable_TableIdOrderByCreatedAtDesc(table);
+        orderRepo.findByVisit_VisitIdOrderByCreatedAtDesc(visit);
+        orderRepo.findByBooth_BoothIdAndTable_TableIdOrderByCreatedAtDescOrderIdDesc(booth, table);
+        orderRepo.findPageByBoothAndTable(booth, table, Limit.of(21));
+        orderRepo.findPageByBoothAndTableBefore(booth, table, end, BASE + 100, Limit.of(21));
+        orderRepo.findWithPaymentPage(booth, table, Limit.of(21));
+        orderRepo.findWithPaymentPageBefore(booth, table, end, BASE + 100, Limit.of(21));
+        orderRepo.sumToday(booth, date);
+        orderRepo.hourlyCounts(booth, date);
+        orderRepo.sumBetween(booth, date.minusDays(1), date);
+        orderRepo.hourlyCountsBetween(booth, date.minusDays(1), date);
+        orderRepo.findByBusinessDateOrderByBooth_BoothIdAscCreatedAtAsc(date.minusDays(1));
+        try (var rows = orderRepo.streamOrderRowsOn(date.minusDays(1))) {
+            rows.forEach(r -> {});
+        }
+        orderRepo.sumAllBetween(date.minusDays(1), date);
+        orderRepo.findQueueRows(List.of(Status.PENDING, Status.APPROVED));
+        orderRepo.findQueueRow(order);
+        orderRepo.findByIdempotencyKey("IDX-KEY");
+        orderRepo.findExistingOrderIds(List.of(order, order + 1));
+        orderRepo.findStatusRows(List.of(order, order + 1));
+
+        managerRepo.findFirstByBooth_BoothIdOrderByCreatedAtAsc(booth);
+        managerRepo.findByBooth_BoothId(booth);
+        managerRepo.existsByBooth_BoothId(booth);
+        managerRepo.existsByUsername("idx-manager1");
+
+        menuRepo.findByBooth_BoothIdAndMenuItemId(booth, menu);
+        menuRepo.findByBooth_BoothIdAndAvailableTrue(booth);
+        menuRepo.findByBooth_BoothIdOrderByNameAsc(booth);
+        menuRepo.existsByBooth_BoothIdAndName(booth, "menu1");
+        menuRepo.findByBooth_BoothIdAndAvailableTrueOrderByNameAsc(booth);
+
+        orderItemRepo.findByOrder_OrderId(order);
+        orderItemRepo.aggregateMenuToday(booth, date);
+        orderItemRepo.aggregateMenuBetween(booth, date.minusDays(1), date);
+        orderItemRepo.totalQtyByBoothAndMenu(booth, menu);
+        orderItemRepo.existsByMenuItem_MenuItemId(menu);
+        orderItemRepo.findByOrder_OrderIdIn(orderIds);
+        orderItemRepo.findItemRowsByOrderIds(orderIds);
+        orderItemRepo.findBriefRowsByOrderIds(orderIds);
+
+        paymentRepo.findByOrder_OrderId(order);
+
+        visitRepo.findFirstByTable_TableIdAndStatusOrderByStartedAtDesc(table, Status.OPEN);
+        visitRepo.findTopByTable_TableIdOrderByVisitNoDesc(table);
+        visitRepo.findTopByTable_TableIdOrderByStartedAtDesc(table);
+        visitRepo.existsByTable_TableIdAndStatus(table, Status.OPEN);
+        visitRepo.findClosedVisitsBetween(start, end);
+        visitRepo.findVisitRowsByStatus(Status.OPEN);
+
+        boothRollupRepo.totalsOn(booth, date);
+        boothRollupRepo.totalsAllOn(date);
+        boothRollupRepo.hourlyCountsOn(booth, date);
+
+        menuRollupRepo.aggregateMenuOn(booth, date);
+        menuRollupRepo.totalQtyByBoothAndMenu(booth, menu);
+    }
+
+    // merge/insert 와 조건 없는 전체 삭제(재집계)는 원래 전체를 훑는 쓰기라 대상 아님
+    private static boolean isIndexedAccess(String sql) {
+        String s = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return (s.startsWith("select") || s.startsWith("update") || s.startsWith("delete"))
+                && s.contains(" where ")
+                && !s.contains("information_schema");
+    }
+
+    private void assertUses(Runnable query, String indexName) {
+        // 통계에는 COMMIT 등도 섞여 있고 순서도 보장되지 않음
+        List<String> sqls = captureSql(query).stream().filter(IndexPlanTest::isIndexedAccess).toList();
+        assertThat(sqls).isNotEmpty();
+        assertThat(explain(sqls.get(0))).contains(indexName);
+    }
+
+    // 실행된 SQL 목록 (Hibernate 가 만든 문장 그대로, 중복 제거)
+    private List<String> captureSql(Runnable calls) {
+        jdbc.execute("set query_statistics_max_entries 1000");
+        jdbc.execute("set query_statistics false");   // 이전 기록 초기화
+        jdbc.execute("set query_statistics true");
+        try {
+            new TransactionTemplate(txManager).executeWithoutResult(st -> calls.run());
+            // 끄면 기록도 사라지므로 켜진 상태에서 읽음
+            return jdbc.queryForList("select sql_statement from information_schema.query_statistics", String.class);
+        } finally {
+            jdbc.execute("set query_statistics false");
+        }
+    }
+
+    // 파라미터는 실행 계획에 영향이 없으므로 타입에 맞는 임의 값으로 채움
+    private String explain(String sql) {
+        return jdbc.execute((java.sql.Connection con) -> {
+            try (var ps = con.prepareStatement("explain " + sql)) {
+                var meta = ps.getParameterMetaData();
+                for (int i = 1; i <= meta.getParameterCount(); i++) {
+                    ps.setObject(i, sampleValue(meta.getParameterType(i)));
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    StringBuilder plan = new StringBuilder();
+                    while (rs.next()) plan.append(rs.getString(1)).append('\n');
+                    return plan.toString();
+                }
+            }
+        });
+    }
+
+    private static Object sampleValue(int sqlType) {
+        return switch (sqlType) {
+            case java.sql.Types.DATE -> LocalDate.now();
+            case java.sql.Types.TIMESTAMP -> LocalDateTime.now();
+            case java.sql.Types.VARCHAR, java.sql.Types.CHAR -> Status.PENDING;
+            case java.sql.Types.BOOLEAN -> true;
+            default -> BASE + 1;
+        };
+    }
+}
@@ -0,0 +1,232 @@
+// src/test/java/com/example/bootheat/IngestPipelineTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.domain.Booth;
+import com.example.bootheat.domain.BoothTable;
+import com.example.bootheat.dto.CreateOrderRequest;
+import com.example.bootheat.dto.OrderCreatedResponse;
+import com.example.bootheat.repository.*;
+import com.example.bootheat.service.OrderIngestService;
+import com.example.bootheat.service.OrderService;
+import com.example.bootheat.service.OrderSubmissionService;
+import com.example.bootheat.support.OrderChangedEvent;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// WAL 적재 모드: 응답은 WAL 기록 후, DB 반영은 writer 가 묶어서 (커밋 후 상태를 보므로 @Transactional 사용 안 함)
+@SpringBootTest(properties = {
+        "bootheat.ingest.mode=wal",
+        "bootheat.ingest.wal-path=build/ingest-test/orders-${random.uuid}.wal"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class IngestPipelineTest {
+
+    // 배치 insert 트랜잭션 안에서 실행할 코드 (생성 이벤트는 커밋 전에 발행됨)
+    static volatile Consumer<OrderChangedEvent> duringBatch;
+
+    @TestConfiguration
+    static class BatchHook {
+        @EventListener
+        public void onOrderChanged(OrderChangedEvent e) {
+            var hook = duringBatch;
+            if (hook != null) hook.accept(e);
+        }
+    }
+
+    @Autowired OrderIngestService ingest;
+    @Autowired OrderSubmissionService submissionService;
+    @Autowired OrderService orderService;
+    @Autowired BoothRepository boothRepo;
+    @Autowired BoothTableRepository tableRepo;
+    @Autowired MenuItemRepository menuRepo;
+    @Autowired CustomerOrderRepository orderRepo;
+    @Autowired OrderItemRepository orderItemRepo;
+
+    Long boothId;
+    Long menuId;
+
+    @BeforeEach
+    void setUp() {
+        Booth booth = TestSeedUtil.seedBoothWithTablesAndMenus(boothRepo, tableRepo, menuRepo);
+        boothId = booth.getBoothId();
+        menuId = menuRepo.findByBooth_BoothIdOrderByNameAsc(boothId).get(0).getMenuItemId();
+    }
+
+    @Test
+    void 동시_주문이_배치로_묶여_모두_반영() throws Exception {
+        int threads = 8, perThread = 50;
+        var before = ingest.stats();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<List<OrderCreatedResponse>>> futures = new ArrayList<>();
+        long startNs = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            int tableNo = t % 3 + 1;
+            futures.add(pool.submit(() -> {
+                List<OrderCreatedResponse> out = new ArrayList<>();
+                for (int i = 0; i < perThread; i++) out.add(submissionService.submit(request(tableNo), null));
+                return out;
+            }));
+        }
+        List<OrderCreatedResponse> responses = new ArrayList<>();
+        for (var f : futures) responses.addAll(f.get(60, TimeUnit.SECONDS));
+        pool.shutdown();
+        awaitApplied();
+        long elapsedMs = (System.nanoTime() - startNs) / 1_000_000;
+
+        var after = ingest.stats();
+        long applied = after.applied() - before.applied();
+        long batches = after.batches() - before.batches();
+        System.out.printf("ingest: %d orders in %d ms, %d batches%n", applied, elapsedMs, batches);
+
+        assertThat(applied).isEqualTo(threads * perThread);
+        assertThat(after.failed()).isEqualTo(before.failed());
+        assertThat(batches).isLessThan(applied);
+
+        // 응답의 id/코드 그대로 저장되고, 라인도 함께
+        var sample = responses.get(0);
+        var order = orderRepo.findById(sample.orderId()).orElseThrow();
+        assertThat(order.getOrderCode()).isEqualTo(sample.orderCode());
+        assertThat(orderItemRepo.findByOrder_OrderId(sample.orderId())).hasSize(1);
+        assertThat(responses.stream().map(OrderCreatedResponse::orderCode).distinct()).hasSize(responses.size());
+        // 같은 테이블 주문은 하나의 OPEN visit 으로
+        assertThat(orderService.getLatestVisitOrders(tableId(1))).hasSize(3 * perThread);
+    }
+
+    @Test
+    void 재기동하면_WAL_에_남은_주문만_재생() throws Exception {
+        ingest.stop();                    // writer 가 죽은 상황: WAL 에만 기록됨
+        var a = submissionService.submit(request(2), "ingest-" + UUID.randomUUID());
+        var b = submissionService.submit(request(2), null);
+        assertThat(orderRepo.existsById(a.orderId())).isFalse();
+
+        ingest.start();
+        assertThat(orderRepo.existsById(a.orderId())).isTrue();
+        assertThat(orderRepo.existsById(b.orderId())).isTrue();
+
+        // 한 번 더 재기동해도 중복 반영 없음
+        ingest.stop();
+        ingest.start();
+        var c = submissionService.submit(request(2), null);
+        awaitApplied();
+        assertThat(orderRepo.existsById(c.orderId())).isTrue();
+        assertThat(orderService.getLatestVisitOrders(tableId(2))).hasSize(3);
+    }
+
+    @Test
+    void 반영에_실패한_주문은_dead_letter_에_남고_재기동해도_유지() throws Exception {
+        var doomed = tableRepo.save(BoothTable.builder()
+                .booth(boothRepo.findById(boothId).orElseThrow()).tableNumber(9).active(true).build());
+        ingest.stop();
+        var ok1 = submissionService.submit(request(1), null);
+        var lost = submissionService.submit(request(9), null);     // 응답은 나감
+        var ok2 = submissionService.submit(request(1), null);
+        tableRepo.delete(doomed);                                   // 반영 전에 테이블이 지워짐
+        var before = ingest.stats();
+
+        ingest.start();                   // 세 건 배치 실패 → 한 건씩: 두 건 반영, 한 건 dead-letter
+        assertThat(orderRepo.existsById(ok1.orderId())).isTrue();
+        assertThat(orderRepo.existsById(ok2.orderId())).isTrue();
+        assertThat(orderRepo.existsById(lost.orderId())).isFalse();
+        assertThat(ingest.stats().deadLettered() - before.deadLettered()).isEqualTo(1);
+        assertThat(ingest.stats().failed() - before.failed()).isEqualTo(1);
+
+        // WAL 은 비워졌어도 재기동 후 dead-letter 에 그대로
+        ingest.stop();
+        ingest.start();
+        assertThat(ingest.deadLetters())
+                .filteredOn(r -> r.orderId().equals(lost.orderId()))
+                .singleElement()
+                .satisfies(r -> {
+                    assertThat(r.orderCode()).isEqualTo(lost.orderCode());
+                    assertThat(r.tableId()).isEqualTo(doomed.getTableId());
+                });
+    }
+
+    @Test
+    void 같은키_동시전송은_반영_전이어도_최초응답_하나() throws Exception {
+        String key = "ingest-" + UUID.randomUUID();
+        var before = ingest.stats();
+        ingest.stop();                    // 반영 전(DB 에 아직 없음) 상태에서 재요청
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<OrderCreatedResponse>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) results.add(pool.submit(() -> submissionService.submit(request(3), key)));
+        Set<OrderCreatedResponse> responses = new HashSet<>();
+        for (var f : results) responses.add(f.get(30, TimeUnit.SECONDS));
+        pool.shutdown();
+        assertThat(responses).hasSize(1);
+        var first = responses.iterator().next();
+
+        // 응답 캐시를 거치지 않아도 반영 대기 키로 같은 응답
+        assertThat(ingest.submit(request(3), key)).isEqualTo(first);
+        assertThat(ingest.stats().pending() - before.pending()).isEqualTo(1);
+
+        ingest.start();
+        assertThat(orderRepo.findByIdempotencyKey(key)).get()
+                .extracting(o -> o.getOrderId()).isEqualTo(first.orderId());
+        assertThat(ingest.submit(request(3), key).orderId()).isEqualTo(first.orderId());   // 반영 후엔 DB 에서
+        assertThat(ingest.stats().deadLettered()).isEqualTo(before.deadLettered());
+    }
+
+    @Test
+    void 배치_트랜잭션은_테이블_락을_쥐지_않음() throws Exception {
+        Long table = tableId(2);
+        List<Throwable> closeErrors = new CopyOnWriteArrayList<>();
+        ExecutorService other = Executors.newSingleThreadExecutor();
+        duringBatch = e -> {
+            if (!table.equals(e.tableId())) return;
+            duringBatch = null;
+            // 배치 트랜잭션 안(커밋 전)에서 다른 스레드의 테이블 비우기가 락 대기 없이 끝나야 함
+            try {
+                other.submit(() -> orderService.closeCurrentVisitByTableId(table)).get(2, TimeUnit.SECONDS);
+            } catch (Exception ex) {
+                closeErrors.add(ex);
+            }
+        };
+        try {
+            var res = submissionService.submit(request(2), null);
+            awaitApplied();
+            assertThat(closeErrors).isEmpty();
+            assertThat(orderRepo.findById(res.orderId())).isPresent();
+        } finally {
+            duringBatch = null;
+            other.shutdown();
+        }
+    }
+
+    @Test
+    void 검증_실패는_WAL_에_기록되지_않음() {
+        var pending = ingest.stats().pending();
+        assertThatThrownBy(() -> submissionService.submit(new CreateOrderRequest(boothId, 1,
+                List.of(new CreateOrderRequest.Item(-1L, "없음", 1000, null, 1)),
+                new CreateOrderRequest.Payment("테스트", 1000)), null))
+                .hasMessage("MENU_NOT_FOUND");
+        assertThat(ingest.stats().pending()).isEqualTo(pending);
+    }
+
+    private void awaitApplied() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (ingest.stats().pending() > 0 && System.currentTimeMillis() < deadline) Thread.sleep(20);
+        assertThat(ingest.stats().pending()).isZero();
+    }
+
+    private Long tableId(int tableNo) {
+        return tableRepo.findByBooth_BoothIdAndTableNumber(boothId, tableNo).orElseThrow().getTableId();
+    }
+
+    private CreateOrderRequest request(int tableNo) {
+        return new CreateOrderRequest(boothId, tableNo,
+                List.of(new CreateOrderRequest.Item(menuId, "핫도그", 4000, null, 1)),
+                new CreateOrderRequest.Payment("테스트", 4000));
+    }
+}
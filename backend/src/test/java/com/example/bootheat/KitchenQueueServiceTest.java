@@ -0,0 +1,137 @@
+// src/test/java/com/example/bootheat/KitchenQueueServiceTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.domain.Booth;
+import com.example.bootheat.dto.CreateOrderRequest;
+import com.example.bootheat.dto.KitchenTicket;
+import com.example.bootheat.repository.*;
+import com.example.bootheat.service.KitchenQueueService;
+import com.example.bootheat.service.OrderService;
+import com.example.bootheat.support.OrderChangedEvent;
+import com.example.bootheat.support.Status;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 큐는 커밋 이후 갱신되므로 @Transactional 사용 안 함
+@SpringBootTest
+class KitchenQueueServiceTest {
+
+    @Autowired KitchenQueueService kitchenQueue;
+    @Autowired OrderService orderService;
+    @Autowired BoothRepository boothRepo;
+    @Autowired BoothTableRepository tableRepo;
+    @Autowired MenuItemRepository menuRepo;
+    @Autowired CustomerOrderRepository orderRepo;
+    @Autowired OrderItemRepository orderItemRepo;
+    @Autowired EntityManagerFactory emf;
+
+    Long boothId;
+    Long menuId;
+
+    @BeforeEach
+    void setUp() {
+        Booth booth = TestSeedUtil.seedBoothWithTablesAndMenus(boothRepo, tableRepo, menuRepo);
+        boothId = booth.getBoothId();
+        menuId = menuRepo.findByBooth_BoothIdOrderByNameAsc(boothId).get(0).getMenuItemId();
+    }
+
+    @Test
+    void 상태변경에_따라_큐가_갱신되고_재구성해도_같음() {
+        Long a = order(1), b = order(2), c = order(3);
+        assertThat(ids(null)).containsExactly(a, b, c);
+        assertThat(kitchenQueue.queue(boothId, "PENDING").get(0).items())
+                .singleElement()
+                .satisfies(i -> assertThat(i.quantity()).isEqualTo(1));
+
+        orderService.changeStatus(a, "APPROVED");
+        orderService.changeStatus(b, "REJECTED");
+        assertThat(ids("PENDING")).containsExactly(c);
+        assertThat(ids("APPROVED")).containsExactly(a);
+
+        orderService.changeStatus(a, "FINISHED");
+        orderService.changeStatus(b, "PENDING");      // 거절 → 대기 복귀
+        assertThat(ids(null)).containsExactly(b, c);
+
+        List<KitchenTicket> before = kitchenQueue.queue(boothId, null);
+        kitchenQueue.rebuild();
+        assertThat(kitchenQueue.queue(boothId, null)).isEqualTo(before);
+    }
+
+    @Test
+    void 재구성_도중_커밋된_변경도_반영() {
+        Long a = order(1), b = order(2);
+        Long[] c = new Long[1];
+        // 재구성이 DB 를 읽은 직후 다른 트랜잭션이 커밋되고 이벤트가 도착한 상황
+        KitchenQueueService[] queue = new KitchenQueueService[1];
+        CustomerOrderRepository repo = afterQueueRows(() -> {
+            orderService.changeStatus(a, "REJECTED");
+            queue[0].onOrderChanged(OrderChangedEvent.statusChanged(orderRepo.findById(a).orElseThrow(), Status.PENDING));
+            c[0] = order(3);
+            queue[0].onOrderChanged(OrderChangedEvent.created(orderRepo.findById(c[0]).orElseThrow(), List.of()));
+        });
+        queue[0] = new KitchenQueueService(repo, orderItemRepo);
+        queue[0].rebuild();
+
+        assertThat(queue[0].queue(boothId, null)).extracting(KitchenTicket::orderId).containsExactly(b, c[0]);
+    }
+
+    @Test
+    void 조회는_SQL_없음() {
+        order(1);
+        var stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+        try {
+            stats.clear();
+            kitchenQueue.queue(boothId, "PENDING");
+            assertThat(stats.getPrepareStatementCount()).isZero();
+        } finally {
+            stats.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    void 진행중이_아닌_상태는_거부() {
+        assertThatThrownBy(() -> kitchenQueue.queue(boothId, "FINISHED"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("UNSUPPORTED_STATUS");
+    }
+
+    // findQueueRows 가 끝난 뒤 hook 실행 (첫 호출만)
+    private CustomerOrderRepository afterQueueRows(Runnable hook) {
+        boolean[] done = {false};
+        return (CustomerOrderRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{CustomerOrderRepository.class}, (proxy, m, args) -> {
+                    Object out;
+                    try {
+                        out = m.invoke(orderRepo, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (m.getName().equals("findQueueRows") && !done[0]) {
+                        done[0] = true;
+                        hook.run();
+                    }
+                    return out;
+                });
+    }
+
+    private List<Long> ids(String status) {
+        return kitchenQueue.queue(boothId, status).stream().map(KitchenTicket::orderId).toList();
+    }
+
+    private Long order(int qty) {
+        return orderService.createOrder(new CreateOrderRequest(boothId, 1,
+                List.of(new CreateOrderRequest.Item(menuId, "핫도그", 4000, null, qty)),
+                new CreateOrderRequest.Payment("주방", 4000 * qty))).orderId();
+    }
+}
@@ -0,0 +1,37 @@
+// src/test/java/com/example/bootheat/LatencyHistogramTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.support.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    void 분위수는_버킷오차_이내() {
+        var h = new LatencyHistogram();
+        for (int ms = 1; ms <= 1000; ms++) h.record(ms * 1_000_000L);
+
+        assertThat(h.count()).isEqualTo(1000);
+        assertThat(h.meanMillis()).isCloseTo(500.5, within(0.01));
+        assertThat(h.percentileMillis(0.50)).isBetween(500.0, 500 * 1.125);
+        assertThat(h.percentileMillis(0.99)).isBetween(990.0, 1000.0);
+        assertThat(h.maxMillis()).isEqualTo(1000.0);
+    }
+
+    @Test
+    void 동시기록_누락없음() throws Exception {
+        var h = new LatencyHistogram();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            pool.submit(() -> { for (int i = 0; i < 100_000; i++) h.record(i * 1_000L); });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(h.count()).isEqualTo(800_000);
+    }
+}
@@ -0,0 +1,77 @@
+// src/test/java/com/example/bootheat/MenuCatalogCacheTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.domain.Booth;
+import com.example.bootheat.repository.BoothRepository;
+import com.example.bootheat.repository.BoothTableRepository;
+import com.example.bootheat.repository.MenuItemRepository;
+import com.example.bootheat.service.MenuService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 캐시 무효화는 커밋 이후이므로 @Transactional 사용 안 함
+@SpringBootTest
+@AutoConfigureMockMvc
+class MenuCatalogCacheTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired MenuService menuService;
+    @Autowired BoothRepository boothRepo;
+    @Autowired BoothTableRepository tableRepo;
+    @Autowired MenuItemRepository menuRepo;
+    @Autowired PlatformTransactionManager txManager;
+
+    Long boothId;
+    Long menuId;
+
+    @BeforeEach
+    void setUp() {
+        Booth booth = TestSeedUtil.seedBoothWithTablesAndMenus(boothRepo, tableRepo, menuRepo);
+        boothId = booth.getBoothId();
+        menuId = menuRepo.findByBooth_BoothIdOrderByNameAsc(boothId).get(0).getMenuItemId();
+    }
+
+    @Test
+    void 같은_ETag_면_304_메뉴가_바뀌면_새_ETag() throws Exception {
+        String etag = mvc.perform(get("/api/booths/{id}/menus", boothId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        mvc.perform(get("/api/booths/{id}/menus", boothId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // 롤백된 변경은 캐시에 영향 없음
+        new TransactionTemplate(txManager).executeWithoutResult(st -> {
+            menuService.toggleAvailable(menuId);
+            st.setRollbackOnly();
+        });
+        mvc.perform(get("/api/booths/{id}/menus", boothId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        menuService.toggleAvailable(menuId);   // 판매 중지 → 커밋 후 무효화
+
+        String changed = mvc.perform(get("/api/booths/{id}/menus", boothId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotBlank().isNotEqualTo(etag);
+
+        menuService.toggleAvailable(menuId);   // 다시 판매 → 내용이 같으면 처음 ETag 로 돌아옴
+        mvc.perform(get("/api/booths/{id}/menus", boothId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+}
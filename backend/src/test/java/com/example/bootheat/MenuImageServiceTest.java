@@ -0,0 +1,123 @@
+// src/test/java/com/example/bootheat/MenuImageServiceTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.domain.Booth;
+import com.example.bootheat.repository.BoothRepository;
+import com.example.bootheat.repository.BoothTableRepository;
+import com.example.bootheat.repository.MenuItemRepository;
+import com.example.bootheat.service.MenuImageService;
+import com.example.bootheat.service.MenuService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MenuImageServiceTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired MenuImageService imageService;
+    @Autowired MenuService menuService;
+    @Autowired BoothRepository boothRepo;
+    @Autowired BoothTableRepository tableRepo;
+    @Autowired MenuItemRepository menuRepo;
+
+    Long boothId;
+    Long menuId;
+
+    @BeforeEach
+    void setUp() {
+        Booth booth = TestSeedUtil.seedBoothWithTablesAndMenus(boothRepo, tableRepo, menuRepo);
+        boothId = booth.getBoothId();
+        menuId = menuRepo.findByBooth_BoothIdOrderByNameAsc(boothId).get(0).getMenuItemId();
+    }
+
+    @Test
+    void 업로드하면_폭별_썸네일과_해시_URL() throws Exception {
+        byte[] png = png(1200, 800);
+        var res = imageService.upload(boothId, menuId, new ByteArrayInputStream(png));
+
+        assertThat(res.thumbnails()).containsOnlyKeys(160, 320, 640);
+        assertThat(res.previewImage()).isEqualTo(res.thumbnails().get(320)).endsWith("-320.jpg");
+        assertThat(menuService.getOne(boothId, menuId).previewImage()).isEqualTo(res.previewImage());
+
+        for (var e : res.thumbnails().entrySet()) {
+            Path file = imageService.thumbnail(fileName(e.getValue()));
+            BufferedImage thumb = ImageIO.read(file.toFile());
+            assertThat(thumb.getWidth()).isEqualTo(e.getKey());
+            assertThat(thumb.getHeight()).isEqualTo(Math.round(e.getKey() * 2 / 3f));   // 비율 유지
+        }
+
+        // 같은 이미지를 다시 올리면 같은 URL
+        assertThat(imageService.upload(boothId, menuId, new ByteArrayInputStream(png)).previewImage())
+                .isEqualTo(res.previewImage());
+    }
+
+    @Test
+    void 이미지가_아니거나_메뉴가_없으면_거부() {
+        assertThatThrownBy(() -> imageService.upload(boothId, menuId, new ByteArrayInputStream("hello".getBytes())))
+                .hasMessage("INVALID_IMAGE");
+        assertThatThrownBy(() -> imageService.upload(boothId, -1L, new ByteArrayInputStream(new byte[1])))
+                .hasMessage("MENU_NOT_FOUND");
+        assertThatThrownBy(() -> imageService.thumbnail("../original/abc"))
+                .hasMessage("IMAGE_NOT_FOUND");
+        assertThatThrownBy(() -> imageService.thumbnail("0123456789abcdef-320.jpg"))
+                .hasMessage("IMAGE_NOT_FOUND");
+    }
+
+    @Test
+    void 업로드_API_와_썸네일_응답_캐시헤더() throws Exception {
+        var part = new MockMultipartFile("file", "menu.png", "image/png", png(400, 400));
+        mvc.perform(multipart("/api/manager/booths/{b}/menus/{m}/image", boothId, menuId).file(part))
+                .andExpect(status().isOk());
+
+        String url = menuService.getOne(boothId, menuId).previewImage();
+        Path file = imageService.thumbnail(fileName(url));
+        Files.delete(file);   // 지워져도 원본에서 다시 생성
+
+        var body = mvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(body).isEqualTo(Files.readAllBytes(file));
+
+        mvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, "\"" + fileName(url) + "\""))
+                .andExpect(status().isNotModified());
+    }
+
+    private static String fileName(String url) {
+        return url.substring(url.lastIndexOf('/') + 1);
+    }
+
+    private static byte[] png(int w, int h) throws Exception {
+        var image = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        var g = image.createGraphics();
+        g.setColor(Color.ORANGE);
+        g.fillRect(0, 0, w, h);
+        g.setColor(Color.BLUE);
+        g.fillOval(w / 4, h / 4, w / 2, h / 2);
+        g.dispose();
+        var out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
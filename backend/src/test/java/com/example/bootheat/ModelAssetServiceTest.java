@@ -0,0 +1,122 @@
+// src/test/java/com/example/bootheat/ModelAssetServiceTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.domain.Booth;
+import com.example.bootheat.repository.BoothRepository;
+import com.example.bootheat.repository.BoothTableRepository;
+import com.example.bootheat.repository.MenuItemRepository;
+import com.example.bootheat.service.MenuService;
+import com.example.bootheat.service.ModelAssetService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ModelAssetServiceTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired ModelAssetService modelService;
+    @Autowired MenuService menuService;
+    @Autowired BoothRepository boothRepo;
+    @Autowired BoothTableRepository tableRepo;
+    @Autowired MenuItemRepository menuRepo;
+
+    Long boothId;
+    Long menuId;
+    byte[] model;
+    String url;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Booth booth = TestSeedUtil.seedBoothWithTablesAndMenus(boothRepo, tableRepo, menuRepo);
+        boothId = booth.getBoothId();
+        menuId = menuRepo.findByBooth_BoothIdOrderByNameAsc(boothId).get(0).getMenuItemId();
+
+        model = new byte[200_000];   // 압축이 잘 되는 내용 (gltf 의 JSON/정점 버퍼 흉내)
+        for (int i = 0; i < model.length; i++) model[i] = (byte) ("glTF" + (i % 97)).charAt(i % 4);
+        var part = new MockMultipartFile("file", "burger.glb", "model/gltf-binary", model);
+        mvc.perform(multipart("/api/manager/booths/{b}/menus/{m}/model", boothId, menuId).file(part))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(model.length));
+        url = menuService.getOne(boothId, menuId).modelUrl();
+    }
+
+    @Test
+    void gzip_을_받으면_미리_압축한_본() throws Exception {
+        assertThat(url).matches("/api/models/[0-9a-f]{16}\\.glb");
+
+        var identity = mvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().contentType("model/gltf-binary"))
+                .andReturn().getResponse();
+        assertThat(identity.getContentAsByteArray()).isEqualTo(model);
+
+        var gzip = mvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse();
+        byte[] compressed = gzip.getContentAsByteArray();
+        assertThat(compressed.length).isLessThan(model.length / 2);
+        assertThat(new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes()).isEqualTo(model);
+        assertThat(gzip.getHeader(HttpHeaders.ETAG)).isNotEqualTo(identity.getHeader(HttpHeaders.ETAG));
+
+        mvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void Range_와_조건부_요청() throws Exception {
+        String etag = mvc.perform(get(url)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        var part = mvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=1000-1999"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 1000-1999/" + model.length))
+                .andReturn().getResponse();
+        assertThat(part.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(model, 1000, 2000));
+
+        // 이어받기: 마지막 500바이트
+        var tail = mvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=-500").header(HttpHeaders.IF_RANGE, etag))
+                .andExpect(status().isPartialContent())
+                .andReturn().getResponse();
+        assertThat(tail.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(model, model.length - 500, model.length));
+
+        // 파일이 바뀌었으면(If-Range 불일치) 전체
+        mvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, "\"old\""))
+                .andExpect(status().isOk());
+
+        mvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=" + model.length + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + model.length));
+    }
+
+    @Test
+    void 잘못된_요청은_400_코드() {
+        assertThatThrownBy(() -> modelService.upload(boothId, menuId, "evil.exe", new ByteArrayInputStream(model)))
+                .hasMessage("INVALID_MODEL_TYPE");
+        assertThatThrownBy(() -> modelService.upload(boothId, -1L, "a.glb", new ByteArrayInputStream(model)))
+                .hasMessage("MENU_NOT_FOUND");
+        assertThatThrownBy(() -> modelService.resolve("../tmp/x.glb", false)).hasMessage("MODEL_NOT_FOUND");
+        assertThatThrownBy(() -> modelService.resolve("0123456789abcdef.glb", true)).hasMessage("MODEL_NOT_FOUND");
+    }
+}
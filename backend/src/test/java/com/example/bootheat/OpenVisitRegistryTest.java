@@ -0,0 +1,164 @@
+// src/test/java/com/example/bootheat/OpenVisitRegistryTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.domain.Booth;
+import com.example.bootheat.dto.CreateOrderRequest;
+import com.example.bootheat.dto.TableListItem;
+import com.example.bootheat.repository.*;
+import com.example.bootheat.service.OpenVisitRegistry;
+import com.example.bootheat.service.OrderService;
+import com.example.bootheat.service.QueryService;
+import com.example.bootheat.service.TableService;
+import com.example.bootheat.support.Status;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+// @Transactional  // ❌ 레지스트리는 커밋 이후 반영되므로 사용하지 않음
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class OpenVisitRegistryTest {
+
+    @Autowired OpenVisitRegistry registry;
+    @Autowired OrderService orderService;
+    @Autowired QueryService queryService;
+    @Autowired TableService tableService;
+    @Autowired BoothRepository boothRepo;
+    @Autowired BoothTableRepository tableRepo;
+    @Autowired MenuItemRepository menuRepo;
+    @Autowired TableVisitRepository visitRepo;
+    @Autowired EntityManagerFactory emf;
+
+    Long boothId;
+    Long menuId;
+    Statistics stats;
+
+    @BeforeEach
+    void setUp() {
+        Booth booth = TestSeedUtil.seedBoothWithTablesAndMenus(boothRepo, tableRepo, menuRepo);
+        boothId = booth.getBoothId();
+        menuId = menuRepo.findByBooth_BoothIdOrderByNameAsc(boothId).get(0).getMenuItemId();
+        stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stats.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void 주문과_테이블비우기가_현황판에_반영되고_재구성해도_같음() {
+        assertThat(board()).containsOnly(Status.CLOSED);
+
+        order(1);
+        order(1);
+        order(3);
+        assertThat(board()).containsExactly(Status.OPEN, Status.CLOSED, Status.OPEN);
+
+        // 레지스트리 값이 DB 의 OPEN visit 과 같음
+        Long table1 = tableId(1);
+        var open = visitRepo.findFirstByTable_TableIdAndStatusOrderByStartedAtDesc(table1, Status.OPEN).orElseThrow();
+        var ctx = queryService.getTableContext(boothId, 1);
+        assertThat(ctx.currentVisit().visitId()).isEqualTo(open.getVisitId());
+        assertThat(ctx.currentVisit().visitNo()).isEqualTo(open.getVisitNo());
+        assertThat(ctx.recentOrders()).hasSize(2);
+
+        orderService.closeCurrentVisit(boothId, 1);
+        assertThat(board()).containsExactly(Status.CLOSED, Status.CLOSED, Status.OPEN);
+        assertThat(queryService.getTableContext(boothId, 1).currentVisit()).isNull();
+        // OPEN 이 없으면 마지막 방문의 주문
+        assertThat(queryService.getLatestVisitOrders(table1)).hasSize(2);
+
+        order(1);   // 새 visit
+        assertThat(registry.find(table1).orElseThrow().visitNo()).isEqualTo(open.getVisitNo() + 1);
+
+        var before = board();
+        registry.rebuild();
+        assertThat(board()).isEqualTo(before);
+    }
+
+    @Test
+    void 재구성_도중_커밋된_visit_변경도_반영() {
+        order(1);
+        Long table1 = tableId(1), table2 = tableId(2);
+        Long visit1 = registry.find(table1).orElseThrow().visitId();
+
+        // 재구성이 OPEN visit 을 읽은 직후 테이블1 비우기, 테이블2 새 visit 이 커밋된 상황
+        OpenVisitRegistry[] fresh = new OpenVisitRegistry[1];
+        TableVisitRepository repo = afterVisitRows(() -> {
+            orderService.closeCurrentVisit(boothId, 1);
+            fresh[0].closed(table1, visit1);
+            order(2);
+            fresh[0].opened(table2, visitRepo.findFirstByTable_TableIdAndStatusOrderByStartedAtDesc(table2, Status.OPEN).orElseThrow());
+        });
+        fresh[0] = new OpenVisitRegistry(repo);
+        fresh[0].rebuild();
+
+        assertThat(fresh[0].isOpen(table1)).isFalse();
+        assertThat(fresh[0].find(table2).orElseThrow().visitId())
+                .isEqualTo(registry.find(table2).orElseThrow().visitId());
+    }
+
+    @Test
+    void 현황판은_테이블수와_무관하게_쿼리_한번() {
+        order(2);
+        stats.clear();
+        tableService.listWithVisitStatus(boothId);
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 롤백된_visit_은_등록되지_않음() {
+        // visit 생성 후 메뉴 검증에서 실패 → 트랜잭션 롤백
+        assertThatThrownBy(() -> orderService.createOrder(new CreateOrderRequest(boothId, 2,
+                List.of(new CreateOrderRequest.Item(-1L, "없음", 1000, null, 1)),
+                new CreateOrderRequest.Payment("테스트", 1000))))
+                .hasMessage("MENU_NOT_FOUND");
+
+        assertThat(registry.isOpen(tableId(2))).isFalse();
+        assertThat(visitRepo.existsByTable_TableIdAndStatus(tableId(2), Status.OPEN)).isFalse();
+    }
+
+    // findVisitRowsByStatus 가 끝난 뒤 hook 실행 (첫 호출만)
+    private TableVisitRepository afterVisitRows(Runnable hook) {
+        boolean[] done = {false};
+        return (TableVisitRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{TableVisitRepository.class}, (proxy, m, args) -> {
+                    Object out;
+                    try {
+                        out = m.invoke(visitRepo, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (m.getName().equals("findVisitRowsByStatus") && !done[0]) {
+                        done[0] = true;
+                        hook.run();
+                    }
+                    return out;
+                });
+    }
+
+    private List<String> board() {
+        return tableService.listWithVisitStatus(boothId).stream().map(TableListItem::tableVisit).toList();
+    }
+
+    private Long tableId(int tableNo) {
+        return tableRepo.findByBooth_BoothIdAndTableNumber(boothId, tableNo).orElseThrow().getTableId();
+    }
+
+    private void order(int tableNo) {
+        orderService.createOrder(new CreateOrderRequest(boothId, tableNo,
+                List.of(new CreateOrderRequest.Item(menuId, "핫도그", 4000, null, 1)),
+                new CreateOrderRequest.Payment("테스트", 4000)));
+    }
+}
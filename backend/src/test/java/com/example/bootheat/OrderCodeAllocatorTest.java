@@ -0,0 +1,80 @@
+// src/test/java/com/example/bootheat/OrderCodeAllocatorTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.service.OrderCodeAllocator;
+import com.example.bootheat.support.BusinessClock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OrderCodeAllocatorTest {
+
+    @Autowired OrderCodeAllocator allocator;
+    @Autowired DataSourceProperties dataSourceProperties;
+    @Autowired BusinessClock clock;
+
+    @Test
+    void 동시발급_중복없음_재기동후에도_재사용없음() throws Exception {
+        long boothId = 9_000_000L + new Random().nextInt(1_000_000);  // hwm 은 FK 없음 → 임의 부스
+        int threads = 8, perThread = 100;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                List<String> codes = new ArrayList<>();
+                for (int i = 0; i < perThread; i++) codes.add(allocator.nextCode(boothId));
+                return codes;
+            }));
+        }
+        Set<String> issued = new HashSet<>();
+        for (var f : futures) issued.addAll(f.get(30, TimeUnit.SECONDS));
+        pool.shutdown();
+
+        assertThat(issued).hasSize(threads * perThread);
+        assertThat(issued).allMatch(c -> c.matches("BE-\\d{8}-" + boothId + "-\\d{4}"));
+
+        // 재기동 = 메모리 블록이 없는 새 인스턴스
+        var restarted = new OrderCodeAllocator(dataSourceProperties, clock);
+        String next = restarted.nextCode(boothId);
+        restarted.close();
+        assertThat(issued).doesNotContain(next);
+        assertThat(seq(next)).isGreaterThan(issued.stream().mapToInt(OrderCodeAllocatorTest::seq).max().orElseThrow());
+    }
+
+    @Test
+    void 마감_시각_전_새벽_주문은_전날_번호를_이어감() {
+        long boothId = 9_000_000L + new Random().nextInt(1_000_000);
+        var nightShift = new BusinessClock("", "06:00");
+        var shiftAllocator = new OrderCodeAllocator(dataSourceProperties, nightShift);
+        try {
+            String evening = shiftAllocator.nextCode(boothId, nightShift.businessDate(LocalDateTime.of(2026, 10, 16, 23, 30)));
+            String night = shiftAllocator.nextCode(boothId, nightShift.businessDate(LocalDateTime.of(2026, 10, 17, 1, 30)));
+            String morning = shiftAllocator.nextCode(boothId, nightShift.businessDate(LocalDateTime.of(2026, 10, 17, 6, 0)));
+
+            assertThat(evening).startsWith("BE-20261016-");
+            assertThat(night).startsWith("BE-20261016-");          // 자정이 지나도 0001 로 돌아가지 않음
+            assertThat(seq(night)).isEqualTo(seq(evening) + 1);
+            assertThat(morning).isEqualTo("BE-20261017-" + boothId + "-0001");
+        } finally {
+            shiftAllocator.close();
+        }
+
+        // 기본 발급은 오늘 영업일
+        assertThat(allocator.nextCode(boothId))
+                .startsWith("BE-" + clock.today().format(DateTimeFormatter.BASIC_ISO_DATE) + "-");
+    }
+
+    private static int seq(String code) {
+        return Integer.parseInt(code.substring(code.lastIndexOf('-') + 1));
+    }
+}
@@ -0,0 +1,112 @@
+// src/test/java/com/example/bootheat/OrderConcurrencyTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.domain.Booth;
+import com.example.bootheat.domain.TableVisit;
+import com.example.bootheat.dto.CreateOrderRequest;
+import com.example.bootheat.repository.*;
+import com.example.bootheat.service.OrderService;
+import com.example.bootheat.service.TableVisitResolver;
+import com.example.bootheat.support.Status;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 같은 테이블 동시 주문 스트레스 (커밋 타이밍이 중요하므로 @Transactional 사용 안 함)
+@SpringBootTest
+class OrderConcurrencyTest {
+
+    static final int THREADS = 8;             // Hikari 기본 풀(10)보다 작게
+    static final int ORDERS_PER_TABLE = 200;
+    static final int CLOSE_EVERY = 50;        // 중간중간 테이블 비우기 → visit 생성 경합 반복
+
+    @Autowired OrderService orderService;
+    @Autowired BoothRepository boothRepo;
+    @Autowired BoothTableRepository tableRepo;
+    @Autowired MenuItemRepository menuRepo;
+    @Autowired TableVisitRepository visitRepo;
+    @Autowired CustomerOrderRepository orderRepo;
+    @Autowired TableVisitResolver visitResolver;
+    @Autowired PlatformTransactionManager txManager;
+
+    Long boothId;
+    Long menuId;
+    List<Long> tableIds;
+
+    @BeforeEach
+    void setUp() {
+        Booth booth = TestSeedUtil.seedBoothWithTablesAndMenus(boothRepo, tableRepo, menuRepo);
+        boothId = booth.getBoothId();
+        menuId = menuRepo.findByBooth_BoothIdOrderByNameAsc(boothId).get(0).getMenuItemId();
+        tableIds = List.of(1, 2, 3).stream()
+                .map(n -> tableRepo.findByBooth_BoothIdAndTableNumber(boothId, n).orElseThrow().getTableId())
+                .toList();
+    }
+
+    @Test
+    void 같은테이블_동시주문_OPEN_visit_하나() throws Exception {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < ORDERS_PER_TABLE; i++) {
+            for (int t = 0; t < tableIds.size(); t++) {
+                int tableNo = t + 1;
+                Long tableId = tableIds.get(t);
+                boolean close = i > 0 && i % CLOSE_EVERY == 0;
+                tasks.add(() -> {
+                    if (close) orderService.closeCurrentVisitByTableId(tableId);
+                    orderService.createOrder(new CreateOrderRequest(boothId, tableNo,
+                            List.of(new CreateOrderRequest.Item(menuId, "핫도그", 4000, null, 1)),
+                            new CreateOrderRequest.Payment("동시", 4000)));
+                    return null;
+                });
+            }
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        long start = System.nanoTime();
+        for (var f : pool.invokeAll(tasks)) {
+            try { f.get(); } catch (ExecutionException e) { failures.add(e.getCause()); }
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        pool.shutdown();
+
+        int total = tasks.size();
+        System.out.printf("[OrderConcurrencyTest] %d orders / %d tables / %d threads: %d ms (%.1f orders/s)%n",
+                total, tableIds.size(), THREADS, elapsedMs, total * 1000.0 / Math.max(1, elapsedMs));
+
+        assertThat(failures).as("실패한 주문").isEmpty();
+        for (Long tableId : tableIds) {
+            List<TableVisit> visits = visitRepo.findAll().stream()
+                    .filter(v -> v.getTable().getTableId().equals(tableId))
+                    .toList();
+            assertThat(visits).filteredOn(v -> Status.OPEN.equals(v.getStatus())).hasSizeLessThanOrEqualTo(1);
+            assertThat(visits).extracting(TableVisit::getVisitNo).doesNotHaveDuplicates();
+            assertThat(orderRepo.findByBooth_BoothIdAndTable_TableIdOrderByCreatedAtDescOrderIdDesc(boothId, tableId))
+                    .hasSize(ORDERS_PER_TABLE);
+        }
+    }
+
+    @Test
+    void 트랜잭션_밖_테이블락은_거절되고_락이_남지_않음() throws Exception {
+        assertThatThrownBy(() -> visitResolver.lockUntilCompletion(1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("TRANSACTION_REQUIRED");
+
+        // 락은 재진입 가능하므로 다른 스레드에서 같은 스트라이프를 잡아 봄
+        ExecutorService other = Executors.newSingleThreadExecutor();
+        try {
+            other.submit(() -> new TransactionTemplate(txManager)
+                    .executeWithoutResult(st -> visitResolver.lockUntilCompletion(1L))).get(10, TimeUnit.SECONDS);
+        } finally {
+            other.shutdown();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+// src/test/java/com/example/bootheat/OrderExportServiceTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.domain.Booth;
+import com.example.bootheat.domain.MenuItem;
+import com.example.bootheat.dto.CreateOrderRequest;
+import com.example.bootheat.repository.*;
+import com.example.bootheat.service.OrderExportService;
+import com.example.bootheat.service.OrderService;
+import com.example.bootheat.support.BusinessClock;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OrderExportServiceTest {
+
+    @Autowired OrderExportService exportService;
+    @Autowired OrderService orderService;
+    @Autowired BusinessClock clock;
+    @Autowired BoothRepository boothRepo;
+    @Autowired BoothTableRepository tableRepo;
+    @Autowired MenuItemRepository menuRepo;
+    @Autowired EntityManagerFactory emf;
+
+    Long boothId;
+    MenuItem menu;
+
+    @BeforeEach
+    void setUp() {
+        Booth booth = TestSeedUtil.seedBoothWithTablesAndMenus(boothRepo, tableRepo, menuRepo);
+        boothId = booth.getBoothId();
+        menu = menuRepo.findByBooth_BoothIdOrderByNameAsc(boothId).get(0);
+    }
+
+    @Test
+    void CSV_는_BOM_헤더_주문라인_순서이고_청크로_나눠_조회() throws Exception {
+        // 쉼표/따옴표/CR 이 들어간 메뉴명은 따옴표로 감싸야 행이 깨지지 않음
+        menu.setName("매운,\"핫도그\"\r");
+        menuRepo.save(menu);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 501; i++) ids.add(order(1));
+        Long twoLines = order(2);
+        ids.add(twoLines);
+
+        var stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+        byte[] bytes;
+        try {
+            stats.clear();
+            var out = new ByteArrayOutputStream();
+            exportService.writeOrdersByDate(clock.today(), OrderExportService.Format.CSV, out);
+            bytes = out.toByteArray();
+            long orders = rows(bytes).stream().map(r -> r.split(",")[1]).distinct().count();
+            // 라인 IN 조회는 주문 500건마다 한 번
+            long lineQueries = Arrays.stream(stats.getQueries())
+                    .filter(q -> q.contains("from OrderItem") && q.contains(":orderIds"))
+                    .mapToLong(q -> stats.getQueryStatistics(q).getExecutionCount())
+                    .sum();
+            assertThat(orders).isGreaterThan(500);
+            assertThat(lineQueries).isEqualTo((orders + 499) / 500);
+        } finally {
+            stats.setStatisticsEnabled(false);
+        }
+
+        assertThat(Arrays.copyOf(bytes, 3)).containsExactly(0xEF, 0xBB, 0xBF);
+        String text = new String(bytes, 3, bytes.length - 3, StandardCharsets.UTF_8);
+        assertThat(text).startsWith(
+                "booth_id,order_id,created_at,total_amount,menu_item_id,name,unit_price,quantity,line_amount\n");
+
+        List<String> mine = rows(bytes).stream().filter(r -> r.startsWith(boothId + ",")).toList();
+        assertThat(mine).hasSize(ids.size());
+        assertThat(mine.stream().map(r -> Long.valueOf(r.split(",")[1])).toList()).containsExactlyElementsOf(ids);
+        assertThat(mine.get(mine.size() - 1))
+                .startsWith(boothId + "," + twoLines + ",")
+                .endsWith(",8000," + menu.getMenuItemId() + ",\"매운,\"\"핫도그\"\"\r\",4000,2,8000");
+    }
+
+    // 헤더 다음 데이터 행
+    private static List<String> rows(byte[] bytes) {
+        String text = new String(bytes, 3, bytes.length - 3, StandardCharsets.UTF_8);
+        var lines = text.split("\n");
+        return Arrays.asList(lines).subList(1, lines.length);
+    }
+
+    private Long order(int qty) {
+        return orderService.createOrder(new CreateOrderRequest(boothId, 1,
+                List.of(new CreateOrderRequest.Item(menu.getMenuItemId(), "핫도그", 4000, null, qty)),
+                new CreateOrderRequest.Payment("내보내기", 4000 * qty))).orderId();
+    }
+}
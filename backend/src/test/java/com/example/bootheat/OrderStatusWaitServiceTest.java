@@ -0,0 +1,156 @@
+// src/test/java/com/example/bootheat/OrderStatusWaitServiceTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.domain.Booth;
+import com.example.bootheat.dto.CreateOrderRequest;
+import com.example.bootheat.dto.OrderStatusResponse;
+import com.example.bootheat.repository.BoothRepository;
+import com.example.bootheat.repository.BoothTableRepository;
+import com.example.bootheat.repository.CustomerOrderRepository;
+import com.example.bootheat.repository.MenuItemRepository;
+import com.example.bootheat.service.OrderService;
+import com.example.bootheat.service.OrderStatusWaitService;
+import com.example.bootheat.support.OrderChangedEvent;
+import com.example.bootheat.support.Status;
+import jakarta.servlet.AsyncEvent;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 상태 변경 이벤트는 커밋 이후 전달되므로 @Transactional 사용 안 함
+@SpringBootTest
+@AutoConfigureMockMvc
+class OrderStatusWaitServiceTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired OrderStatusWaitService statusWait;
+    @Autowired OrderService orderService;
+    @Autowired BoothRepository boothRepo;
+    @Autowired BoothTableRepository tableRepo;
+    @Autowired MenuItemRepository menuRepo;
+    @Autowired CustomerOrderRepository orderRepo;
+
+    Long boothId;
+    Long menuId;
+
+    @BeforeEach
+    void setUp() {
+        Booth booth = TestSeedUtil.seedBoothWithTablesAndMenus(boothRepo, tableRepo, menuRepo);
+        boothId = booth.getBoothId();
+        menuId = menuRepo.findByBooth_BoothIdOrderByNameAsc(boothId).get(0).getMenuItemId();
+    }
+
+    @Test
+    void 대기중에_상태가_바뀌면_그_상태로_응답() throws Exception {
+        Long orderId = order();
+        MvcResult pending = mvc.perform(get("/api/orders/{id}/status/wait", orderId).param("since", "PENDING"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThatThrownBy(() -> pending.getAsyncResult(0)).isInstanceOf(IllegalStateException.class);   // 아직 대기 중
+
+        orderService.changeStatus(orderId, "APPROVED");
+
+        mvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderId").value(orderId))
+                .andExpect(jsonPath("$.status").value(Status.APPROVED))
+                .andExpect(jsonPath("$.approvedAt").isNotEmpty());
+    }
+
+    @Test
+    void 이미_바뀐_상태면_대기없이_즉시_응답() throws Exception {
+        Long orderId = order();
+        orderService.changeStatus(orderId, "REJECTED");
+
+        assertThat(statusWait.await(orderId, "PENDING", 25_000).hasResult()).isTrue();
+
+        MvcResult done = mvc.perform(get("/api/orders/{id}/status/wait", orderId).param("since", "PENDING"))
+                .andReturn();
+        mvc.perform(asyncDispatch(done))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(Status.REJECTED));
+    }
+
+    @Test
+    void 등록과_상태_확인_사이의_변경도_놓치지_않음() {
+        Long orderId = order();
+        // 현재 상태(PENDING)를 읽은 직후 승인이 커밋되고 이벤트가 도착한 상황
+        OrderStatusWaitService[] wait = new OrderStatusWaitService[1];
+        CustomerOrderRepository repo = (CustomerOrderRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{CustomerOrderRepository.class}, (proxy, m, args) -> {
+                    Object out;
+                    try {
+                        out = m.invoke(orderRepo, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (m.getName().equals("findById")) {
+                        orderService.changeStatus(orderId, "APPROVED");
+                        wait[0].onOrderChanged(OrderChangedEvent.statusChanged(
+                                orderRepo.findById(orderId).orElseThrow(), Status.PENDING));
+                    }
+                    return out;
+                });
+        wait[0] = new OrderStatusWaitService(repo);
+
+        var result = wait[0].await(orderId, "PENDING", 25_000);
+
+        assertThat(result.hasResult()).isTrue();
+        assertThat(((ResponseEntity<?>) result.getResult()).getBody())
+                .extracting(b -> ((OrderStatusResponse) b).status())
+                .isEqualTo(Status.APPROVED);
+    }
+
+    @Test
+    void 타임아웃이면_204() throws Exception {
+        Long orderId = order();
+        MvcResult pending = mvc.perform(get("/api/orders/{id}/status/wait", orderId)
+                        .param("since", "PENDING").param("timeoutMs", "1000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // MockMvc 는 비동기 타임아웃을 스스로 발생시키지 않으므로 컨테이너 대신 알림
+        var ctx = (MockAsyncContext) pending.getRequest().getAsyncContext();
+        for (var l : ctx.getListeners()) {
+            l.onTimeout(new AsyncEvent(ctx));
+        }
+
+        mvc.perform(asyncDispatch(pending)).andExpect(status().isNoContent());
+    }
+
+    @Test
+    void 대기시간은_1초에서_55초_사이로_제한() throws Exception {
+        Long orderId = order();
+        assertThat(asyncTimeout(orderId, 10)).isEqualTo(1_000L);
+        assertThat(asyncTimeout(orderId, 30_000)).isEqualTo(30_000L);
+        assertThat(asyncTimeout(orderId, 600_000)).isEqualTo(55_000L);
+    }
+
+    private long asyncTimeout(Long orderId, long timeoutMs) throws Exception {
+        return mvc.perform(get("/api/orders/{id}/status/wait", orderId)
+                        .param("since", "PENDING").param("timeoutMs", String.valueOf(timeoutMs)))
+                .andExpect(request().asyncStarted())
+                .andReturn().getRequest().getAsyncContext().getTimeout();
+    }
+
+    private Long order() {
+        return orderService.createOrder(new CreateOrderRequest(boothId, 1,
+                List.of(new CreateOrderRequest.Item(menuId, "핫도그", 4000, null, 1)),
+                new CreateOrderRequest.Payment("테스트", 4000))).orderId();
+    }
+}
@@ -0,0 +1,120 @@
+// src/test/java/com/example/bootheat/OrderStreamServiceTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.domain.Booth;
+import com.example.bootheat.dto.CreateOrderRequest;
+import com.example.bootheat.repository.*;
+import com.example.bootheat.service.OrderService;
+import com.example.bootheat.service.OrderStreamService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// 푸시는 커밋 이후에 나가므로 @Transactional 사용 안 함
+@SpringBootTest
+@AutoConfigureMockMvc
+class OrderStreamServiceTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired OrderStreamService streamService;
+    @Autowired OrderService orderService;
+    @Autowired BoothRepository boothRepo;
+    @Autowired BoothTableRepository tableRepo;
+    @Autowired MenuItemRepository menuRepo;
+    @Autowired PlatformTransactionManager txManager;
+
+    Long boothId;
+    Long menuId;
+
+    @BeforeEach
+    void setUp() {
+        Booth booth = TestSeedUtil.seedBoothWithTablesAndMenus(boothRepo, tableRepo, menuRepo);
+        boothId = booth.getBoothId();
+        menuId = menuRepo.findByBooth_BoothIdOrderByNameAsc(boothId).get(0).getMenuItemId();
+    }
+
+    @Test
+    void 이벤트는_해당_부스_구독자에게만() throws Exception {
+        Long otherBooth = TestSeedUtil.seedBoothWithTablesAndMenus(boothRepo, tableRepo, menuRepo).getBoothId();
+        var mine = subscribe(boothId);
+        var other = subscribe(otherBooth);
+
+        Long orderId = order();
+        orderService.changeStatus(orderId, "APPROVED");
+
+        assertThat(mine.getContentAsString())
+                .contains("event:connected")
+                .contains("event:order-created\nid:" + orderId)
+                .contains("event:status-changed\nid:" + orderId);
+        assertThat(other.getContentAsString())
+                .contains("event:connected")
+                .doesNotContain("id:" + orderId);
+    }
+
+    @Test
+    void 커밋된_뒤에만_전송되고_롤백되면_전송_안_함() throws Exception {
+        var stream = subscribe(boothId);
+        var tx = new TransactionTemplate(txManager);
+
+        Long committed = tx.execute(st -> {
+            Long id = order();
+            assertThat(content(stream)).doesNotContain("order-created");   // 커밋 전
+            return id;
+        });
+        assertThat(content(stream)).contains("event:order-created\nid:" + committed);
+
+        Long rolledBack = tx.execute(st -> {
+            Long id = order();
+            st.setRollbackOnly();
+            return id;
+        });
+        assertThat(content(stream)).doesNotContain("id:" + rolledBack);
+    }
+
+    @Test
+    void 끊긴_구독자는_다음_전송때_정리() throws Exception {
+        subscribe(boothId);
+        var dead = streamService.subscribe(boothId);
+        assertThat(streamService.subscriberCount(boothId)).isEqualTo(2);
+
+        dead.complete();   // 이후 send 는 IllegalStateException
+        order();
+        assertThat(streamService.subscriberCount(boothId)).isEqualTo(1);
+
+        var dead2 = streamService.subscribe(boothId);
+        dead2.complete();
+        streamService.heartbeat();
+        assertThat(streamService.subscriberCount(boothId)).isEqualTo(1);
+    }
+
+    private MockHttpServletResponse subscribe(Long boothId) throws Exception {
+        return mvc.perform(get("/api/manager/booths/{id}/orders/stream", boothId))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+    }
+
+    private static String content(MockHttpServletResponse res) {
+        try {
+            return res.getContentAsString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Long order() {
+        return orderService.createOrder(new CreateOrderRequest(boothId, 1,
+                List.of(new CreateOrderRequest.Item(menuId, "핫도그", 4000, null, 1)),
+                new CreateOrderRequest.Payment("테스트", 4000))).orderId();
+    }
+}
@@ -0,0 +1,116 @@
+// src/test/java/com/example/bootheat/OrderSubmissionServiceTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.domain.Booth;
+import com.example.bootheat.dto.CreateOrderRequest;
+import com.example.bootheat.dto.OrderCreatedResponse;
+import com.example.bootheat.repository.*;
+import com.example.bootheat.service.OrderService;
+import com.example.bootheat.service.OrderSubmissionService;
+import com.example.bootheat.support.ExpiringLruCache;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 재전송(같은 Idempotency-Key) 시 주문이 한 번만 생기는지 (커밋 후 상태를 보므로 @Transactional 사용 안 함)
+@SpringBootTest
+class OrderSubmissionServiceTest {
+
+    @Autowired OrderSubmissionService submissionService;
+    @Autowired OrderService orderService;
+    @Autowired BoothRepository boothRepo;
+    @Autowired BoothTableRepository tableRepo;
+    @Autowired MenuItemRepository menuRepo;
+    @Autowired CustomerOrderRepository orderRepo;
+
+    Long boothId;
+    Long tableId;
+    Long menuId;
+
+    @BeforeEach
+    void setUp() {
+        Booth booth = TestSeedUtil.seedBoothWithTablesAndMenus(boothRepo, tableRepo, menuRepo);
+        boothId = booth.getBoothId();
+        tableId = tableRepo.findByBooth_BoothIdAndTableNumber(boothId, 1).orElseThrow().getTableId();
+        menuId = menuRepo.findByBooth_BoothIdOrderByNameAsc(boothId).get(0).getMenuItemId();
+    }
+
+    @Test
+    void 같은키_재전송은_최초응답_그대로() {
+        String key = UUID.randomUUID().toString();
+        var first = submissionService.submit(request(), key);
+        var retry = submissionService.submit(request(), key);
+
+        assertThat(retry).isEqualTo(first);
+        assertThat(orderCount()).isEqualTo(1);
+
+        // 캐시가 비어도(만료/재기동) DB 의 키로 같은 주문을 돌려줌
+        var restarted = new OrderSubmissionService(orderService, orderRepo, 10, Duration.ofMinutes(1));
+        assertThat(restarted.submit(request(), key).orderId()).isEqualTo(first.orderId());
+        assertThat(orderCount()).isEqualTo(1);
+
+        // 키가 없으면 매번 새 주문
+        submissionService.submit(request(), null);
+        submissionService.submit(request(), null);
+        assertThat(orderCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 같은키_동시전송도_주문은_하나() throws Exception {
+        String key = UUID.randomUUID().toString();
+        ExecutorService pool = Executors.newFixedThreadPool(6);
+        List<Future<OrderCreatedResponse>> results = new ArrayList<>();
+        for (int i = 0; i < 6; i++) results.add(pool.submit(() -> submissionService.submit(request(), key)));
+
+        Set<Long> orderIds = new HashSet<>();
+        for (var f : results) orderIds.add(f.get(30, TimeUnit.SECONDS).orderId());
+        pool.shutdown();
+
+        assertThat(orderIds).hasSize(1);
+        assertThat(orderCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 캐시는_만료되고_최대개수를_넘지않음() {
+        var clock = new MutableClock();
+        var cache = new ExpiringLruCache<String, Integer>(2, Duration.ofMinutes(10), clock);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");          // a 최근 사용 → b 가 가장 오래됨
+        cache.put("c", 3);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo(1);
+
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("c")).isNull();
+    }
+
+    private long orderCount() {
+        return orderRepo.findByBooth_BoothIdAndTable_TableIdOrderByCreatedAtDescOrderIdDesc(boothId, tableId).size();
+    }
+
+    private CreateOrderRequest request() {
+        return new CreateOrderRequest(boothId, 1,
+                List.of(new CreateOrderRequest.Item(menuId, "핫도그", 4000, null, 1)),
+                new CreateOrderRequest.Payment("테스트", 4000));
+    }
+
+    static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-09-20T09:00:00Z");
+
+        void advance(Duration d) { now = now.plus(d); }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+}
@@ -0,0 +1,108 @@
+// src/test/java/com/example/bootheat/OrderWritePathTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.domain.Booth;
+import com.example.bootheat.dto.CreateOrderRequest;
+import com.example.bootheat.repository.*;
+import com.example.bootheat.service.OrderService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class OrderWritePathTest {
+
+    @Autowired OrderService orderService;
+    @Autowired BoothRepository boothRepo;
+    @Autowired BoothTableRepository tableRepo;
+    @Autowired MenuItemRepository menuRepo;
+    @Autowired OrderItemRepository orderItemRepo;
+    @Autowired CustomerOrderRepository orderRepo;
+    @Autowired EntityManager em;
+    @Autowired EntityManagerFactory emf;
+
+    Long boothId;
+    List<Long> menuIds;
+    Statistics stats;
+
+    @BeforeEach
+    void setUp() {
+        Booth booth = TestSeedUtil.seedBoothWithTablesAndMenus(boothRepo, tableRepo, menuRepo);
+        boothId = booth.getBoothId();
+        menuIds = menuRepo.findByBooth_BoothIdOrderByNameAsc(boothId).stream()
+                .map(m -> m.getMenuItemId()).toList();
+
+        stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stats.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void 주문생성_라인수와_무관하게_SQL수_일정() {
+        countStatements(1);                       // visit 생성/시퀀스 선할당 워밍업
+        long one = countStatements(1);
+        long ten = countStatements(10);
+
+        // 시퀀스 풀이 중간에 다시 채워지면 next value 조회 1회 추가될 수 있음
+        assertThat(ten).isLessThanOrEqualTo(one + 1);
+        assertThat(ten).isLessThanOrEqualTo(7);
+        assertThat(stats.getEntityInsertCount()).isEqualTo(1 + 10 + 1);
+    }
+
+    @Test
+    void 주문생성_라인과_코드가_저장됨() {
+        var res = orderService.createOrder(request(10));
+        em.flush();
+        em.clear();
+
+        var order = orderRepo.findById(res.orderId()).orElseThrow();
+        assertThat(order.getOrderCode()).isNotBlank();
+        assertThat(orderItemRepo.findByOrder_OrderId(res.orderId())).hasSize(10);
+    }
+
+    @Test
+    void 없는_메뉴면_MENU_NOT_FOUND() {
+        var req = new CreateOrderRequest(boothId, 1,
+                List.of(new CreateOrderRequest.Item(menuIds.get(0), "메뉴", 1000, null, 1),
+                        new CreateOrderRequest.Item(-1L, "없음", 1000, null, 1)),
+                new CreateOrderRequest.Payment("테스트", 2000));
+
+        assertThatThrownBy(() -> orderService.createOrder(req))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("MENU_NOT_FOUND");
+    }
+
+    // createOrder 한 번 + 커밋 시점 flush 까지 실행된 SQL 수
+    private long countStatements(int lines) {
+        em.flush();
+        em.clear();
+        stats.clear();
+        orderService.createOrder(request(lines));
+        em.flush();
+        return stats.getPrepareStatementCount();
+    }
+
+    private CreateOrderRequest request(int lines) {
+        List<CreateOrderRequest.Item> items = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            items.add(new CreateOrderRequest.Item(menuIds.get(i % menuIds.size()), "메뉴", 1000, null, 1));
+        }
+        return new CreateOrderRequest(boothId, 1, items, new CreateOrderRequest.Payment("테스트", 1000 * lines));
+    }
+}
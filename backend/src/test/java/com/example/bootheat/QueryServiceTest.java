@@ -0,0 +1,140 @@
+// src/test/java/com/example/bootheat/QueryServiceTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.domain.Booth;
+import com.example.bootheat.dto.CreateOrderRequest;
+import com.example.bootheat.repository.*;
+import com.example.bootheat.service.OrderService;
+import com.example.bootheat.service.QueryService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class QueryServiceTest {
+
+    @Autowired QueryService queryService;
+    @Autowired OrderService orderService;
+    @Autowired BoothRepository boothRepo;
+    @Autowired BoothTableRepository tableRepo;
+    @Autowired MenuItemRepository menuRepo;
+    @Autowired EntityManager em;
+    @Autowired EntityManagerFactory emf;
+
+    Long boothId;
+    Long tableId;
+    Long menuId;
+    Statistics stats;
+
+    @BeforeEach
+    void setUp() {
+        Booth booth = TestSeedUtil.seedBoothWithTablesAndMenus(boothRepo, tableRepo, menuRepo);
+        boothId = booth.getBoothId();
+        tableId = tableRepo.findByBooth_BoothIdAndTableNumber(boothId, 1).orElseThrow().getTableId();
+        menuId = menuRepo.findByBooth_BoothIdOrderByNameAsc(boothId).get(0).getMenuItemId();
+
+        stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stats.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void 테이블주문상세_쿼리수는_주문수와_무관() {
+        placeOrders(3);
+        long small = countStatements();
+        var smallRes = queryService.getTableOrderDetails(boothId, tableId, null, 100).items();
+
+        placeOrders(37);
+        long large = countStatements();
+        var largeRes = queryService.getTableOrderDetails(boothId, tableId, null, 100).items();
+
+        assertThat(smallRes).hasSize(3);
+        assertThat(largeRes).hasSize(40);
+        assertThat(largeRes.get(0).orderItems()).hasSize(2);
+        assertThat(largeRes.get(0).paymentInfo().payerName()).isEqualTo("테스트");
+        assertThat(small).isEqualTo(3);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void 테이블주문_키셋페이지가_전체목록과_같은순서() {
+        placeOrders(45);
+        // 절반은 같은 시각으로 맞춰 orderId 로만 구분되는 경우까지 확인
+        em.flush();
+        em.createNativeQuery("update customer_order set created_at = (select max(created_at) from customer_order where table_id = ?1) "
+                        + "where table_id = ?1 and mod(order_id, 2) = 0")
+                .setParameter(1, tableId).executeUpdate();
+        em.clear();
+
+        var all = queryService.getTableOrderDetails(boothId, tableId, null, 100).items();
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var page = queryService.getTableOrderDetails(boothId, tableId, cursor, 20);
+            page.items().forEach(d -> paged.add(d.customerOrder().orderId()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(paged).containsExactlyElementsOf(all.stream().map(d -> d.customerOrder().orderId()).toList());
+        assertThat(queryService.getTableOrders(boothId, tableId, null, 20).items())
+                .extracting(r -> r.orderId())
+                .containsExactlyElementsOf(paged.subList(0, 20));
+    }
+
+    @Test
+    void limit_이_없어도_기본_크기_페이지만() {
+        placeOrders(25);
+        var first = queryService.getTableOrderDetails(boothId, tableId, null, null);
+        assertThat(first.items()).hasSize(20);
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(queryService.getTableOrderDetails(boothId, tableId, first.nextCursor(), null).items()).hasSize(5);
+        assertThat(queryService.getTableOrders(boothId, tableId, null, null).items()).hasSize(20);
+    }
+
+    @Test
+    void 잘못된_커서나_크기는_거절() {
+        assertThatThrownBy(() -> queryService.getTableOrderDetails(boothId, tableId, "abc", 20))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("INVALID_CURSOR");
+        assertThatThrownBy(() -> queryService.getTableOrderDetails(boothId, tableId, null, 0))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("INVALID_LIMIT");
+    }
+
+    private void placeOrders(int n) {
+        for (int i = 0; i < n; i++) {
+            orderService.createOrder(new CreateOrderRequest(
+                    boothId, 1,
+                    List.of(new CreateOrderRequest.Item(menuId, "핫도그", 4000, null, 1),
+                            new CreateOrderRequest.Item(menuId, "핫도그", 4000, null, 2)),
+                    new CreateOrderRequest.Payment("테스트", 12000)
+            ));
+        }
+    }
+
+    // 1차 캐시를 비운 상태에서 getTableOrderDetails 한 번에 실행된 SQL 수
+    private long countStatements() {
+        em.flush();
+        em.clear();
+        stats.clear();
+        queryService.getTableOrderDetails(boothId, tableId, null, 100);
+        return stats.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,44 @@
+// src/test/java/com/example/bootheat/RollingCounterTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.support.RollingCounter;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RollingCounterTest {
+
+    @Test
+    void 링을_한바퀴_돌면_오래된_칸은_교체() {
+        var c = new RollingCounter(5);
+        c.add(100, 1, 1000);
+        c.add(101, 2, 500);
+        c.add(104, 1, 100);
+
+        assertThat(c.sum(100, 104)).containsExactly(4, 1600);
+        assertThat(c.sum(102, 104)).containsExactly(1, 100);
+
+        c.add(105, 1, 10);          // 100 자리를 덮어씀
+        assertThat(c.count(100)).isZero();
+        assertThat(c.sum(101, 105)).containsExactly(4, 610);
+
+        c.add(100, 5, 5);           // 한 바퀴보다 오래된 값은 버림
+        assertThat(c.sum(0, 200)).containsExactly(4, 610);
+    }
+
+    @Test
+    void 동시기록_누락없음() throws Exception {
+        var c = new RollingCounter(60);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            pool.submit(() -> {
+                for (int i = 0; i < 10_000; i++) c.add(i % 3, 1, 2);   // 같은 칸이 동시에 생성되는 경우 포함
+            });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(c.sum(0, 2)).containsExactly(80_000, 160_000);
+    }
+}
@@ -0,0 +1,116 @@
+// src/test/java/com/example/bootheat/SecondLevelCacheTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.domain.Booth;
+import com.example.bootheat.dto.CacheRegionStats;
+import com.example.bootheat.dto.CreateManagerUserRequest;
+import com.example.bootheat.dto.UpdateManagerUserRequest;
+import com.example.bootheat.repository.BoothRepository;
+import com.example.bootheat.repository.BoothTableRepository;
+import com.example.bootheat.repository.MenuItemRepository;
+import com.example.bootheat.service.ManagerQueryService;
+import com.example.bootheat.service.ManagerUserService;
+import com.example.bootheat.service.MenuService;
+import com.example.bootheat.support.SecondLevelCacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+// @Transactional  // ❌ 2차 캐시는 커밋된 값만 공유되므로 사용하지 않음
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired BoothRepository boothRepo;
+    @Autowired BoothTableRepository tableRepo;
+    @Autowired MenuItemRepository menuRepo;
+    @Autowired MenuService menuService;
+    @Autowired ManagerUserService managerUserService;
+    @Autowired ManagerQueryService managerQueryService;
+    @Autowired SecondLevelCacheStats cacheStats;
+    @Autowired EntityManagerFactory emf;
+
+    Long boothId;
+    Long menuId;
+    Statistics stats;
+
+    @BeforeEach
+    void setUp() {
+        Booth booth = TestSeedUtil.seedBoothWithTablesAndMenus(boothRepo, tableRepo, menuRepo);
+        boothId = booth.getBoothId();
+        menuId = menuRepo.findByBooth_BoothIdOrderByNameAsc(boothId).get(0).getMenuItemId();
+        managerUserService.create(boothId,
+                new CreateManagerUserRequest("mgr-" + boothId, "pw", null, "KB", "123-456", "홍길동"));
+        stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+        cacheStats.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stats.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void 테이블_조회와_계좌_조회는_두번째부터_SQL_없음() {
+        tableRepo.findByBooth_BoothIdAndTableNumber(boothId, 2).orElseThrow();
+        managerQueryService.getAccount(boothId);
+
+        long sql = statements(() -> {
+            for (int i = 0; i < 5; i++) {
+                tableRepo.findByBooth_BoothIdAndTableNumber(boothId, 2).orElseThrow();
+                managerQueryService.getAccount(boothId);
+            }
+            return null;
+        });
+        assertThat(sql).isZero();
+        // 쿼리 캐시가 행 데이터까지 들고 있어 엔티티 영역은 채워지기만 함
+        assertThat(region("default-query-results-region").hits()).isPositive();
+        assertThat(region("booth_table").puts()).isPositive();
+        assertThat(region("manager_user").puts()).isPositive();
+    }
+
+    @Test
+    void id_조회는_엔티티_영역에서_적중() {
+        Long tableId = tableRepo.findByBooth_BoothIdAndTableNumber(boothId, 1).orElseThrow().getTableId();
+
+        assertThat(statements(() -> tableRepo.findById(tableId).orElseThrow())).isZero();
+        assertThat(statements(() -> menuRepo.findById(menuId))).isLessThanOrEqualTo(1);
+        assertThat(statements(() -> menuRepo.findById(menuId))).isZero();
+
+        assertThat(region("booth_table").hits()).isPositive();
+        assertThat(region("menu_item").hits()).isPositive();
+    }
+
+    @Test
+    void 수정이_커밋되면_캐시된_값도_바뀜() {
+        boolean before = menuService.getOne(boothId, menuId).available();
+        assertThat(statements(() -> menuService.getOne(boothId, menuId))).isZero();
+
+        menuService.toggleAvailable(menuId);
+        assertThat(menuService.getOne(boothId, menuId).available()).isEqualTo(!before);
+
+        assertThat(managerQueryService.getAccount(boothId).accountHolder()).isEqualTo("홍길동");
+        managerUserService.updateForBooth(boothId,
+                new UpdateManagerUserRequest(null, null, null, null, null, "김철수"));
+        assertThat(managerQueryService.getAccount(boothId).accountHolder()).isEqualTo("김철수");
+    }
+
+    private long statements(Supplier<?> work) {
+        stats.clear();
+        work.get();
+        return stats.getPrepareStatementCount();
+    }
+
+    private CacheRegionStats region(String name) {
+        return cacheStats.snapshot().stream()
+                .filter(r -> r.region().equals(name))
+                .findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,170 @@
+// src/test/java/com/example/bootheat/StatsServiceTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.domain.Booth;
+import com.example.bootheat.dto.CreateOrderRequest;
+import com.example.bootheat.repository.*;
+import com.example.bootheat.service.OrderService;
+import com.example.bootheat.service.SalesRollupService;
+import com.example.bootheat.service.StatsService;
+import com.example.bootheat.support.OrderChangedEvent;
+import com.example.bootheat.support.Status;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+// @Transactional  // ❌ 집계는 커밋 이후 반영되므로 사용하지 않음
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StatsServiceTest {
+
+    @Autowired StatsService statsService;
+    @Autowired OrderService orderService;
+    @Autowired SalesRollupService rollupService;
+    @Autowired BoothRepository boothRepo;
+    @Autowired BoothTableRepository tableRepo;
+    @Autowired MenuItemRepository menuRepo;
+    @Autowired CustomerOrderRepository orderRepo;
+    @Autowired OrderItemRepository orderItemRepo;
+
+    Long boothId;
+    List<Long> menuIds;
+
+    @BeforeEach
+    void setUp() {
+        Booth booth = TestSeedUtil.seedBoothWithTablesAndMenus(boothRepo, tableRepo, menuRepo);
+        boothId = booth.getBoothId();
+        menuIds = menuRepo.findByBooth_BoothIdOrderByNameAsc(boothId).stream()
+                .map(m -> m.getMenuItemId()).toList();
+    }
+
+    @Test
+    void 주문생성_거절이_집계에_반영() {
+        Long a = menuIds.get(0), b = menuIds.get(1);
+        order(List.of(item(a, 2000, 2), item(b, 5000, 1)), 9000);
+        order(List.of(item(a, 2000, 1), item(a, 2000, 1)), 4000);
+        var rejected = order(List.of(item(b, 5000, 3)), 15000);
+        rollupService.flush();
+
+        var today = statsService.todayStats(boothId, 5);
+        assertThat(today.totalOrders()).isEqualTo(3);
+        assertThat(today.totalAmount()).isEqualTo(28000);
+        assertThat(today.peakHour()).isNotNull();
+        assertThat(today.topItems())
+                .filteredOn(t -> t.menuItemId().equals(a))
+                .singleElement()
+                .satisfies(t -> {
+                    assertThat(t.qty()).isEqualTo(4);
+                    assertThat(t.amount()).isEqualTo(8000);
+                });
+
+        orderService.changeStatus(rejected, "REJECTED");
+        rollupService.flush();
+
+        var after = statsService.todayStats(boothId, 5);
+        assertThat(after.totalOrders()).isEqualTo(2);
+        assertThat(after.totalAmount()).isEqualTo(13000);
+        var sales = statsService.menuSalesItems(boothId, null);
+        assertThat(sales).extracting(s -> s.totalSales()).containsExactly(8000L, 5000L);
+        assertThat(statsService.totalOrdersForMenu(boothId, b)).isEqualTo(1);
+
+        // 재집계해도 증분 결과와 같아야 함
+        rollupService.rebuild();
+        assertThat(statsService.todayStats(boothId, 5)).isEqualTo(after);
+    }
+
+    @Test
+    void 최근_부하는_메모리_카운터에서() {
+        Long a = menuIds.get(0);
+        order(List.of(item(a, 2000, 1)), 2000);
+        order(List.of(item(a, 2000, 3)), 6000);
+
+        var load = statsService.currentLoad(boothId);
+        assertThat(load.windows()).extracting(w -> w.minutes()).containsExactly(5, 15, 60);
+        assertThat(load.windows()).allSatisfy(w -> {
+            assertThat(w.orders()).isEqualTo(2);
+            assertThat(w.sales()).isEqualTo(8000);
+        });
+        assertThat(load.windows().get(0).ordersPerMinute()).isEqualTo(0.4);
+    }
+
+    @Test
+    void 주문에_영업일과_시간버킷이_저장되고_원본_집계는_그_컬럼으로() {
+        Long a = menuIds.get(0);
+        Long id = order(List.of(item(a, 2000, 2)), 4000);
+        order(List.of(item(a, 2000, 1)), 2000);
+
+        var saved = orderRepo.findById(id).orElseThrow();
+        assertThat(saved.getBusinessDate()).isEqualTo(saved.getCreatedAt().toLocalDate());   // 테스트는 cutoff 00:00
+        assertThat(saved.getHourBucket()).isEqualTo(saved.getCreatedAt().getHour());
+
+        LocalDate date = saved.getBusinessDate();
+        var totals = orderRepo.sumBetween(boothId, date, date);
+        assertThat(totals.orders()).isEqualTo(2);
+        assertThat(totals.sales()).isEqualTo(6000);
+        assertThat(orderRepo.hourlyCounts(boothId, date))
+                .singleElement()
+                .satisfies(r -> assertThat(r).containsExactly(saved.getHourBucket(), 2L));
+        assertThat(orderItemRepo.aggregateMenuToday(boothId, date))
+                .singleElement()
+                .satisfies(r -> assertThat(((Number) r[2]).longValue()).isEqualTo(3));
+        assertThat(orderRepo.sumBetween(boothId, date.minusDays(1), date.minusDays(1)).orders()).isZero();
+    }
+
+    @Test
+    void 재집계는_이미_센_이벤트만_버리고_나머지는_반영() {
+        Long a = menuIds.get(0);
+        Long kept = order(List.of(item(a, 2000, 1)), 2000);
+        Long rejected = order(List.of(item(a, 2000, 2)), 4000);
+        orderService.changeStatus(rejected, "REJECTED");
+        rollupService.flush();
+
+        // 재집계가 읽기 전에 큐에 있던 이벤트: 이미 커밋된 주문(재집계에 포함) + 스냅샷에 없는 주문
+        rollupService.onOrderChanged(OrderChangedEvent.created(orderRepo.findById(kept).orElseThrow(), List.of()));
+        rollupService.onOrderChanged(OrderChangedEvent.statusChanged(orderRepo.findById(rejected).orElseThrow(), Status.PENDING));
+        rollupService.onOrderChanged(unknownOrder(7000));
+        rollupService.rebuild();
+        rollupService.flush();
+
+        var stats = statsService.todayStats(boothId, 5);
+        assertThat(stats.totalOrders()).isEqualTo(2);
+        assertThat(stats.totalAmount()).isEqualTo(9000);
+    }
+
+    @Test
+    void 계속_실패하는_이벤트는_한도까지만_재시도() throws Exception {
+        long dropped = rollupService.droppedEvents();
+        rollupService.onOrderChanged(unknownOrder(null));          // 금액 없음 → 반영 중 예외
+        order(List.of(item(menuIds.get(0), 2000, 1)), 2000);       // 같은 배치의 정상 이벤트
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (rollupService.droppedEvents() == dropped && System.currentTimeMillis() < deadline) {
+            rollupService.flush();
+            Thread.sleep(10);
+        }
+        assertThat(rollupService.droppedEvents()).isEqualTo(dropped + 1);
+        assertThat(statsService.todayStats(boothId, 5).totalOrders()).isEqualTo(1);
+    }
+
+    // customer_order 에 없는 주문의 생성 이벤트
+    private OrderChangedEvent unknownOrder(Integer amount) {
+        var now = LocalDateTime.now();
+        return new OrderChangedEvent(OrderChangedEvent.Type.CREATED, -System.nanoTime(), boothId, null, null,
+                null, Status.PENDING, null, amount, now, now.toLocalDate(), now.getHour(), null,
+                List.of(new OrderChangedEvent.Line(menuIds.get(1), "메뉴", 1, amount)));
+    }
+
+    private Long order(List<CreateOrderRequest.Item> items, int amount) {
+        return orderService.createOrder(new CreateOrderRequest(
+                boothId, 1, items, new CreateOrderRequest.Payment("테스트", amount))).orderId();
+    }
+
+    private static CreateOrderRequest.Item item(Long menuId, int price, int qty) {
+        return new CreateOrderRequest.Item(menuId, "메뉴", price, null, qty);
+    }
+}
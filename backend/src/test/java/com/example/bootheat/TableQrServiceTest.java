@@ -0,0 +1,87 @@
+// src/test/java/com/example/bootheat/TableQrServiceTest.java
+package com.example.bootheat;
+
+import com.example.bootheat.domain.Booth;
+import com.example.bootheat.repository.BoothRepository;
+import com.example.bootheat.repository.BoothTableRepository;
+import com.example.bootheat.repository.MenuItemRepository;
+import com.example.bootheat.service.TableQrService;
+import com.google.zxing.BinaryBitmap;
+import com.google.zxing.client.j2se.BufferedImageLuminanceSource;
+import com.google.zxing.common.HybridBinarizer;
+import com.google.zxing.qrcode.QRCodeReader;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.imageio.ImageIO;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TableQrServiceTest {
+
+    @Autowired TableQrService qrService;
+    @Autowired BoothRepository boothRepo;
+    @Autowired BoothTableRepository tableRepo;
+    @Autowired MenuItemRepository menuRepo;
+
+    Long boothId;
+
+    @BeforeEach
+    void setUp() {
+        Booth booth = TestSeedUtil.seedBoothWithTablesAndMenus(boothRepo, tableRepo, menuRepo);
+        boothId = booth.getBoothId();
+    }
+
+    @Test
+    void QR_은_테이블_메뉴_URL_이고_두번째부터는_캐시() throws Exception {
+        byte[] png = qrService.tablePng(boothId, 2, 200, "https://example.com/");
+
+        assertThat(decode(png)).isEqualTo("https://example.com/booths/" + boothId + "/tables/2/menu");
+        assertThat(ImageIO.read(new ByteArrayInputStream(png)).getWidth()).isEqualTo(200);
+        // 같은 키면 다시 인코딩하지 않고 같은 바이트 배열
+        assertThat(qrService.tablePng(boothId, 2, 200, "https://example.com")).isSameAs(png);
+        // 크기가 다르면 다른 항목
+        assertThat(qrService.tablePng(boothId, 2, 300, "https://example.com")).isNotSameAs(png);
+    }
+
+    @Test
+    void 부스_전체_ZIP_에_테이블마다_PNG() throws Exception {
+        var out = new ByteArrayOutputStream();
+        qrService.boothZip(boothId, null, null).writeTo(out);
+
+        List<String> names = new ArrayList<>();
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (var e = zip.getNextEntry(); e != null; e = zip.getNextEntry()) {
+                names.add(e.getName());
+                assertThat(decode(zip.readAllBytes())).endsWith("/menu");
+            }
+        }
+        assertThat(names).containsExactly(
+                "booth-" + boothId + "-table-1.png",
+                "booth-" + boothId + "-table-2.png",
+                "booth-" + boothId + "-table-3.png");
+    }
+
+    @Test
+    void 잘못된_요청은_400_코드() {
+        assertThatThrownBy(() -> qrService.tablePng(boothId, 99, null, null)).hasMessage("TABLE_NOT_FOUND");
+        assertThatThrownBy(() -> qrService.tablePng(-1L, 1, null, null)).hasMessage("BOOTH_NOT_FOUND");
+        assertThatThrownBy(() -> qrService.tablePng(boothId, 1, 10_000, null)).hasMessage("INVALID_QR_SIZE");
+        assertThatThrownBy(() -> qrService.boothZip(boothId, null, "javascript:alert(1)")).hasMessage("INVALID_BASE_URL");
+        assertThatThrownBy(() -> qrService.boothZip(-1L, null, null)).hasMessage("BOOTH_NOT_FOUND");
+    }
+
+    private static String decode(byte[] png) throws Exception {
+        var image = ImageIO.read(new ByteArrayInputStream(png));
+        var bitmap = new BinaryBitmap(new HybridBinarizer(new BufferedImageLuminanceSource(image)));
+        return new QRCodeReader().decode(bitmap).getText();
+    }
+}
@@ -0,0 +1,37 @@
+// src/test/java/com/example/bootheat/VirtualThreadModeTest.java
+package com.example.bootheat;
+
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가상 스레드 모드로 기동되는지 (Tomcat 요청 처리, @Scheduled)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class VirtualThreadModeTest {
+
+    @Autowired ServletWebServerApplicationContext context;
+    @Autowired TaskScheduler taskScheduler;
+
+    @Test
+    void 요청과_스케줄_작업이_가상_스레드에서_실행() throws Exception {
+        var tomcat = ((TomcatWebServer) context.getWebServer()).getTomcat();
+        assertThat(tomcat.getConnector().getProtocolHandler().getExecutor()).isInstanceOf(VirtualThreadExecutor.class);
+
+        var virtual = new CompletableFuture<Boolean>();
+        taskScheduler.schedule(() -> virtual.complete(Thread.currentThread().isVirtual()), Instant.now());
+        assertThat(virtual.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -55,6 +55,12 @@ export const API_PUBLIC = {
   // GET /api/orders/{orderId}
   GET_ORDER_DETAIL: (orderId) => `/orders/${orderId}`,
 
+  // 5-1. 주문 상태 변경 대기 (long-poll)
+  // GET /api/orders/{orderId}/status/wait?since=PENDING
+  // 응답: 200 { orderId, status, approvedAt } | 204 (타임아웃, 변경 없음)
+  WAIT_ORDER_STATUS: (orderId, since) =>
+    `/orders/${orderId}/status/wait?${qs({ since })}`,
+
   // 6. (보류) 실시간 주문 상태 업데이트 (SSE)
   // GET /api/orders/stream?boothId=1
   // 응답: text/event-stream
@@ -110,10 +116,11 @@ export const API_MANAGER_ORDERS = {
   GET_LATEST_VISIT_ORDER_IDS: (tableId) =>
     `/tables/${tableId}/visits/latest/orders`,
 
-  // 특정 부스-테이블의 주문 이력 전체
-  // GET /api/booths/{boothId}/tables/{tableId}/orders
-  GET_TABLE_ORDERS: (boothId, tableId) =>
-    `/booths/${boothId}/tables/${tableId}/orders`,
+  // 특정 부스-테이블의 주문 이력 (최신순, 한 페이지씩)
+  // GET /api/booths/{boothId}/tables/{tableId}/orders?limit=20&before={커서}
+  // 다음 페이지 커서는 응답 헤더 X-Next-Cursor (없으면 마지막 페이지)
+  GET_TABLE_ORDERS: (boothId, tableId, { limit, before } = {}) =>
+    `/booths/${boothId}/tables/${tableId}/orders?${qs({ limit, before })}`,
 
   // (중복이지만, 구매자 API와 동일 경로) 주문 단건 조회
   GET_ORDER_DETAIL: (orderId) => `/orders/${orderId}`,
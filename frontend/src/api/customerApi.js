@@ -114,6 +114,19 @@ export async function getOrderDetail(orderId) {
   return data; // Order
 }
 
+/**
+ * 주문 상태 변경 대기 (long-poll)
+ * - 상태가 since와 달라지면 { orderId, status, approvedAt } 반환
+ * - 서버 타임아웃(204)이면 null 반환 → 호출 측에서 다시 대기
+ */
+export async function waitOrderStatus(orderId, since = "PENDING") {
+  assertPositiveInt("orderId", orderId);
+  const res = await client.get(API_PUBLIC.WAIT_ORDER_STATUS(orderId, since), {
+    timeout: 35000, // 서버 대기(25초)보다 길게
+  });
+  return res.status === 204 ? null : res.data;
+}
+
 /** 실시간 주문 상태 업데이트 (SSE) */
 export function openOrderStream(boothId, onMessage, onError) {
   assertPositiveInt("boothId", boothId);
@@ -145,6 +158,7 @@ const customerApi = {
   getBoothAccount,
   createOrder,
   getOrderDetail,
+  waitOrderStatus,
   openOrderStream,
   EP: API_PUBLIC,
   BASE_URL,
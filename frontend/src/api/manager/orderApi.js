@@ -135,13 +135,20 @@ export async function getOrderDetail(orderId) {
   }
 }
 
-/** 6) 특정 부스-테이블의 모든 주문 이력 */
-export async function getTableOrders(boothId, tableId) {
+/** 6) 특정 부스-테이블의 주문 이력 한 페이지 (최신순)
+ *  before: 이전 응답의 nextCursor (첫 페이지는 생략)
+ *  반환: { orders: [{ customerOrder, orderItems, paymentInfo }, ...], nextCursor: string|null }
+ */
+export const TABLE_ORDERS_PAGE_SIZE = 20;
+
+export async function getTableOrders(boothId, tableId, { limit = TABLE_ORDERS_PAGE_SIZE, before } = {}) {
   try {
-    const url = API_MANAGER_ORDERS.GET_TABLE_ORDERS(boothId, tableId);
+    const url = API_MANAGER_ORDERS.GET_TABLE_ORDERS(boothId, tableId, { limit, before });
     const res = await client.get(url);
-    // 기대 응답: [{ customerOrder, orderItems, paymentInfo }, ...]
-    return res.data ?? [];
+    return {
+      orders: res.data ?? [],
+      nextCursor: res.headers?.["x-next-cursor"] ?? null,
+    };
   } catch (err) {
     handleApiError(err);
   }
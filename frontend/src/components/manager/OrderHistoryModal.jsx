@@ -15,13 +15,34 @@ export default function OrderHistoryModal({
   const [loading, setLoading] = useState(false);
   const [orders, setOrders] = useState([]);
   const [error, setError] = useState(null);
+  const [nextCursor, setNextCursor] = useState(null); // 더 오래된 주문이 남아 있으면 X-Next-Cursor 값
+  const [loadingMore, setLoadingMore] = useState(false);
 
   const listRef = useRef(null);
   const colRefs = useRef([]);
 
+  // 첫 페이지부터 다시 (상태 변경 후에도 최신 주문 기준으로 갱신)
   const reload = async () => {
-    const data = await getTableOrders(boothId, tableId);
-    setOrders(Array.isArray(data) ? data : []);
+    const { orders: page, nextCursor: next } = await getTableOrders(boothId, tableId);
+    setOrders(Array.isArray(page) ? page : []);
+    setNextCursor(next);
+  };
+
+  // 다음(더 오래된) 페이지를 이어 붙임
+  const loadMore = async () => {
+    if (!nextCursor || loadingMore) return;
+    setLoadingMore(true);
+    try {
+      const { orders: page, nextCursor: next } = await getTableOrders(boothId, tableId, {
+        before: nextCursor,
+      });
+      setOrders((prev) => [...prev, ...(Array.isArray(page) ? page : [])]);
+      setNextCursor(next);
+    } catch (e) {
+      alert("이전 주문을 불러오지 못했습니다.");
+    } finally {
+      setLoadingMore(false);
+    }
   };
 
   useEffect(() => {
@@ -120,6 +141,11 @@ export default function OrderHistoryModal({
               <OrderCard {...toCardProps(o)} />
             </CardWrap>
           ))}
+          {nextCursor && (
+            <MoreButton type="button" onClick={loadMore} disabled={loadingMore}>
+              {loadingMore ? "불러오는 중…" : "이전 주문 더 보기"}
+            </MoreButton>
+          )}
         </List>
       )}
     </Modal>
@@ -145,6 +171,22 @@ const List = styled.div`
 
 const CardWrap = styled.div``;
 
+const MoreButton = styled.button`
+  align-self: center;
+  padding: 12px 16px;
+  border: 1px solid #ddd;
+  border-radius: 8px;
+  background: #fafafa;
+  color: #555;
+  font-weight: 600;
+  cursor: pointer;
+
+  &:disabled {
+    cursor: default;
+    opacity: 0.6;
+  }
+`;
+
 
 /**
  * 
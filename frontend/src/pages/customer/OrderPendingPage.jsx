@@ -7,7 +7,7 @@ import { clear } from "../../store/cartSlice.js";
 import Header from "../../components/common/Header.jsx";
 import { paths } from "../../routes/paths.js";
 import { showSuccessToast } from "../../utils/toast.js";
-import { getOrderDetail } from "../../api/customerApi.js";
+import { waitOrderStatus } from "../../api/customerApi.js";
 import { selectOrderIdsByTable } from "../../store/orderIdsSlice.js";
 
 export default function OrderPendingPage() {
@@ -49,28 +49,35 @@ export default function OrderPendingPage() {
   useEffect(() => {
     if (!currentOrderId) return;
 
-    let interval;
-
-    async function pollOrderStatus() {
-      try {
-        const data = await getOrderDetail(currentOrderId);
-        const status = data?.customerOrder?.status;
-
-        if (status === "APPROVED") {
-          showSuccessToast("결제 확인이 완료되었습니다.");
-          navigate(paths.complete(boothId, tableId, currentOrderId));
+    let cancelled = false;
+
+    // 서버가 상태 변경 시점까지 응답을 붙잡고 있다가 바로 알려줌 (3초 폴링 대체)
+    async function waitForApproval() {
+      while (!cancelled) {
+        try {
+          const data = await waitOrderStatus(currentOrderId, "PENDING");
+          if (cancelled) return;
+
+          if (data?.status === "APPROVED" || data?.status === "FINISHED") {
+            showSuccessToast("결제 확인이 완료되었습니다.");
+            navigate(paths.complete(boothId, tableId, currentOrderId));
+            return;
+          }
+          if (data && data.status !== "PENDING") return; // 거절 등 → 대기 종료
+        } catch (e) {
+          // eslint-disable-next-line no-console
+          console.error("주문 상태 대기 실패", e);
+          // 네트워크 오류 시 잠깐 쉬었다 재시도
+          await new Promise((r) => setTimeout(r, 3000));
         }
-      } catch (e) {
-        // eslint-disable-next-line no-console
-        console.error("주문 상세 조회 실패", e);
       }
     }
 
-    // 3초마다 상태 체크
-    pollOrderStatus();
-    interval = setInterval(pollOrderStatus, 3000);
+    waitForApproval();
 
-    return () => clearInterval(interval);
+    return () => {
+      cancelled = true;
+    };
   }, [currentOrderId, boothId, tableId, navigate]);
 
   const goHome = () => navigate(paths.menu(boothId, tableId));
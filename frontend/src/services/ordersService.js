@@ -197,15 +197,16 @@ export async function loadCards(boothId) {
 }
 
 /* ---------------- 추가: 테이블별 주문 히스토리 ---------- */
-/** 부스/테이블ID → 주문 히스토리(내림차순) */
-export async function fetchOrderHistoryByTable(boothId, tableId) {
-  // 기대 응답: [{ customerOrder, orderItems, paymentInfo }, ...]
-  const rows = await getTableOrders(boothId, tableId);
-  return (rows ?? []).sort(
+/** 부스/테이블ID → 주문 히스토리 한 페이지(내림차순). 다음 페이지는 nextCursor 를 before 로 */
+export async function fetchOrderHistoryByTable(boothId, tableId, before) {
+  // 기대 응답: { orders: [{ customerOrder, orderItems, paymentInfo }, ...], nextCursor }
+  const { orders, nextCursor } = await getTableOrders(boothId, tableId, { before });
+  const sorted = (orders ?? []).sort(
     (a, b) =>
       +new Date(b.customerOrder.created_at) -
       +new Date(a.customerOrder.created_at)
   );
+  return { orders: sorted, nextCursor };
 }
 
 /* ---------------- 주문 상태 변경 ---------------- */